@@ -0,0 +1,100 @@
+package benchmark;
+
+import model.Ability;
+import model.Hero;
+import model.HeroClass;
+import model.ability.BerserkerAttack;
+import model.ability.ChainLightning;
+import model.ability.Fireball;
+import model.ability.Heal;
+import model.ability.Protect;
+import model.ability.Replenish;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks for {@link Ability#execute(Hero, List)}, one per ability variant
+ * (including the hybrid upgrades), against a full party of five targets.
+ *
+ * Targets are revived and stripped of shields/status effects before every
+ * invocation so each call does the same amount of work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AbilityBenchmark {
+
+    @Param({"Protect", "Heal", "Heal:Priest",
+            "Fireball", "Fireball:Sorcerer",
+            "ChainLightning", "ChainLightning:Invoker",
+            "BerserkerAttack", "BerserkerAttack:Knight", "BerserkerAttack:Paladin",
+            "Replenish", "Replenish:Wizard", "Replenish:Prophet"})
+    public String ability;
+
+    private final SplittableRandom random = new SplittableRandom(42L);
+    private Ability subject;
+    private Hero caster;
+    private List<Hero> targets;
+
+    @Setup
+    public void buildParties() {
+        subject = createAbility(ability);
+        caster = BenchmarkParties.hero("Caster", HeroClass.CHAOS, 10);
+        targets = BenchmarkParties.party("T", 5, "MIXED", 3, 0);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetTargets() {
+        for (Hero target : targets) {
+            target.revive();
+            target.processStatusEffects();
+            target.setShieldAmount(0);
+            target.takeDamage(20); // leave room for heals to have an effect
+            target.useMana(20);
+        }
+        caster.revive();
+        caster.useMana(20);
+    }
+
+    @Benchmark
+    public List<Hero> execute() {
+        subject.execute(caster, targets, random);
+        return targets;
+    }
+
+    private static Ability createAbility(String spec) {
+        switch (spec) {
+            case "Protect":                return Protect.STANDARD;
+            case "Heal":                   return Heal.STANDARD;
+            case "Heal:Priest":            return Heal.PRIEST;
+            case "Fireball":               return Fireball.STANDARD;
+            case "Fireball:Sorcerer":      return Fireball.SORCERER;
+            case "ChainLightning":         return ChainLightning.STANDARD;
+            case "ChainLightning:Invoker": return ChainLightning.INVOKER;
+            case "BerserkerAttack":        return BerserkerAttack.STANDARD;
+            case "BerserkerAttack:Knight": return BerserkerAttack.KNIGHT;
+            case "BerserkerAttack:Paladin":return BerserkerAttack.PALADIN;
+            case "Replenish":              return Replenish.STANDARD;
+            case "Replenish:Wizard":       return Replenish.WIZARD;
+            case "Replenish:Prophet":      return Replenish.PROPHET;
+            default: throw new IllegalArgumentException("Unknown ability: " + spec);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package benchmark;
+
+import model.BattleEventLog;
+import model.BattleResult;
+import model.Hero;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.BattleService;
+import service.impl.ArrayBattleServiceImpl;
+import service.impl.BattleServiceImpl;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-battle throughput of {@link BattleServiceImpl#startBattle(List, List)}.
+ *
+ * Parameterised over party size (1v1 .. 5v5), class mix and hero level. Both teams
+ * share the same composition; the MIXED team B is rotated by one class so that
+ * mirrored heroes do not face each other. Low levels with equal stats usually end
+ * in the 1000-round draw, which is the engine's worst case.
+ *
+ * Every battle uses the same seed so runs are comparable across changes.
+ * Battles mutate the heroes, so fresh parties are built before every invocation.
+ * Run with {@code -prof gc} (the default in the jmh profile) to get
+ * {@code gc.alloc.rate.norm}; note that it includes the per-invocation party setup,
+ * which {@link #partySetupOnly()} measures on its own for subtraction.
+ *
+ * With this seed the 5v5 parties all play to the round-cap draw, so one op is about
+ * 10,000 hero turns. {@code -prof stack} puts nearly all of both engines' time in
+ * the round loop itself (status ticks, AI choice, damage); setup is not timed and
+ * loading the arrays does not register. Each turn depends on the previous one and
+ * must draw randoms in BattleServiceImpl's order, so the array engine only trims
+ * per-turn overhead rather than changing the amount of work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BattleBenchmark {
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int partySize;
+
+    @Param({"ORDER", "CHAOS", "WARRIOR", "MAGE", "MIXED"})
+    public String classMix;
+
+    @Param({"1", "5", "10", "15", "20"})
+    public int level;
+
+    private static final long SEED = 42L;
+
+    private final BattleServiceImpl recordingService = new BattleServiceImpl();
+    private final BattleEventLog eventLog = new BattleEventLog();
+    private List<Hero> teamA;
+    private List<Hero> teamB;
+
+    /**
+     * Engine selection, kept in its own state so only {@link #startBattle(Engine)} is
+     * parameterised over it; the other benchmarks do not depend on the engine.
+     */
+    @State(Scope.Thread)
+    public static class Engine {
+        /** "object" = BattleServiceImpl, "array" = ArrayBattleServiceImpl. */
+        @Param({"object", "array"})
+        public String engine;
+
+        private BattleService battleService;
+
+        @Setup
+        public void selectEngine() {
+            battleService = "array".equals(engine) ? new ArrayBattleServiceImpl() : new BattleServiceImpl();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void buildParties() {
+        teamA = BenchmarkParties.party("A", partySize, classMix, level, 0);
+        teamB = BenchmarkParties.party("B", partySize, classMix, level, 1);
+    }
+
+    @Benchmark
+    public BattleResult startBattle(Engine engine) {
+        return engine.battleService.startBattle(teamA, teamB, SEED);
+    }
+
+    /** Same battle with event recording into a reused log, to keep recording overhead visible. */
+    @Benchmark
+    public BattleResult startBattleRecorded() {
+        return recordingService.startBattle(teamA, teamB, new SplittableRandom(SEED), eventLog);
+    }
+
+    /** Baseline: cost of building both parties, included in the allocation figures above. */
+    @Benchmark
+    public List<Hero> partySetupOnly() {
+        BenchmarkParties.party("A", partySize, classMix, level, 0);
+        return BenchmarkParties.party("B", partySize, classMix, level, 1);
+    }
+}
@@ -0,0 +1,44 @@
+package benchmark;
+
+import model.Hero;
+import model.HeroClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the hero parties used by the JMH benchmarks.
+ *
+ * A class mix is either a single class name ("ORDER", "CHAOS", "WARRIOR", "MAGE"),
+ * in which case every hero in the party has that class, or "MIXED", in which case
+ * classes are assigned round-robin starting from {@code offset}.
+ */
+final class BenchmarkParties {
+
+    private static final HeroClass[] PLAYABLE = {
+            HeroClass.ORDER, HeroClass.CHAOS, HeroClass.WARRIOR, HeroClass.MAGE
+    };
+
+    private BenchmarkParties() {}
+
+    /** Creates a party of {@code size} heroes, each levelled in its own class to {@code level}. */
+    static List<Hero> party(String prefix, int size, String classMix, int level, int offset) {
+        List<Hero> party = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            party.add(hero(prefix + i, classFor(classMix, i + offset), level));
+        }
+        return party;
+    }
+
+    /** Creates a single hero of the given class at the given overall level. */
+    static Hero hero(String name, HeroClass heroClass, int level) {
+        Hero hero = new Hero(name, heroClass);
+        for (int l = 1; l < level; l++) hero.levelUp(heroClass);
+        return hero;
+    }
+
+    private static HeroClass classFor(String classMix, int index) {
+        if ("MIXED".equals(classMix)) return PLAYABLE[index % PLAYABLE.length];
+        return HeroClass.valueOf(classMix);
+    }
+}
@@ -0,0 +1,50 @@
+package benchmark;
+
+import model.Hero;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import service.impl.LevelUpEnemyGenerator;
+import service.impl.TemplateEnemyGenerator;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of generating one PvE enemy party: replaying level-ups versus copying
+ * precomputed templates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyGeneratorBenchmark {
+
+    /** Cumulative level of the player's party. */
+    @Param({"5", "50"})
+    public int cumulativeLevel;
+
+    private final LevelUpEnemyGenerator levelUp = new LevelUpEnemyGenerator();
+    private final TemplateEnemyGenerator templates = new TemplateEnemyGenerator();
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Benchmark
+    public List<Hero> levelUpGenerator() {
+        return levelUp.generate(cumulativeLevel, random);
+    }
+
+    @Benchmark
+    public List<Hero> templateGenerator() {
+        return templates.generate(cumulativeLevel, random);
+    }
+}
@@ -0,0 +1,96 @@
+package benchmark;
+
+import model.Hero;
+import model.HeroClass;
+import model.HeroSnapshot;
+import model.StatusEffect;
+import model.StatusType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks for the {@link Hero} methods on the battle hot path.
+ *
+ * The "SPEC" and "HYBRID" shapes exercise the specialization and hybrid
+ * branches of the derived-stat getters; "BASE" has neither.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeroBenchmark {
+
+    @Param({"BASE", "SPEC", "HYBRID"})
+    public String shape;
+
+    /** Number of long-lived status effects ticked by processStatusEffects. */
+    @Param({"0", "2"})
+    public int statusEffects;
+
+    private Hero hero;
+    private HeroSnapshot snapshot;
+
+    @Setup
+    public void buildHero() {
+        hero = new Hero("Bench", HeroClass.WARRIOR);
+        if (!"BASE".equals(shape)) {
+            for (int i = 0; i < 4; i++) hero.levelUp(HeroClass.WARRIOR);
+        }
+        if ("HYBRID".equals(shape)) {
+            for (int i = 0; i < 5; i++) hero.levelUp(HeroClass.CHAOS);
+        }
+        for (int i = 0; i < statusEffects; i++) {
+            // Effectively never expires, so every call walks the same list
+            hero.addStatusEffect(new StatusEffect(StatusType.SHIELD, Integer.MAX_VALUE, 0));
+        }
+        snapshot = hero.snapshot();
+    }
+
+    @Benchmark
+    public int getCurrentAttack() {
+        return hero.getCurrentAttack();
+    }
+
+    @Benchmark
+    public int getCurrentDefense() {
+        return hero.getCurrentDefense();
+    }
+
+    @Benchmark
+    public int getCurrentMaxHealth() {
+        return hero.getCurrentMaxHealth();
+    }
+
+    @Benchmark
+    public int getCurrentMaxMana() {
+        return hero.getCurrentMaxMana();
+    }
+
+    @Benchmark
+    public boolean processStatusEffects() {
+        hero.processStatusEffects();
+        return hero.isStunned();
+    }
+
+    /** Lookahead step: take a snapshot into a reused holder, mutate, roll back. */
+    @Benchmark
+    public int snapshotDamageRestore() {
+        hero.snapshot(snapshot);
+        hero.takeDamage(30);
+        hero.restore(snapshot);
+        return hero.getCurrentHealth();
+    }
+}
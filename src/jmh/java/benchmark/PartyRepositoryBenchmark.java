@@ -0,0 +1,91 @@
+package benchmark;
+
+import model.Hero;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import persistence.PartyKey;
+import persistence.impl.JdbcDatabase;
+import persistence.impl.JdbcPartyRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Party-save throughput of {@link JdbcPartyRepository} on a file-backed H2 database:
+ * per-hero writes (each row written and committed on its own) against batched
+ * writes (one batched DELETE/INSERT per transaction).
+ *
+ * {@link #savePartyOfFive()} saves one 5-hero party, as after a campaign room;
+ * {@link #saveTwentyParties()} saves 20 parties through one saveAll, as a
+ * write-behind flush does; {@link #loadAllParties()} loads a player's 5 teams.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartyRepositoryBenchmark {
+
+    /** false = per-hero writes, true = batched writes. */
+    @Param({"false", "true"})
+    public boolean batched;
+
+    private Path directory;
+    private JdbcDatabase database;
+    private JdbcPartyRepository repository;
+    private List<Hero> party;
+    private Map<PartyKey, List<Hero>> batch;
+    private int next;
+
+    @Setup
+    public void openDatabase() throws IOException {
+        directory = Files.createTempDirectory("party-bench");
+        database = new JdbcDatabase("jdbc:h2:" + directory.resolve("legends").toAbsolutePath());
+        repository = new JdbcPartyRepository(database, batched);
+        party = BenchmarkParties.party("P", 5, "MIXED", 10, 0);
+        batch = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) batch.put(new PartyKey("player" + i, i % 5), party);
+        for (int slot = 0; slot < 5; slot++) repository.save("reader", slot, party);
+    }
+
+    @TearDown
+    public void closeDatabase() throws IOException {
+        database.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void savePartyOfFive() {
+        repository.save("player" + (next++ & 1023), 0, party);
+    }
+
+    @Benchmark
+    public void saveTwentyParties() {
+        repository.saveAll(batch);
+    }
+
+    @Benchmark
+    public List<List<Hero>> loadAllParties() {
+        return repository.loadAll("reader");
+    }
+}
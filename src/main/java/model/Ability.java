@@ -1,9 +1,16 @@
 package model;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+/**
+ * Base class for class abilities. Abilities are immutable: each variant is a
+ * shared singleton (see the constants on each subclass), so implementations
+ * must not keep per-cast state.
+ */
 public abstract class Ability {
-    protected String name;
-    protected int manaCost;
+    protected final String name;
+    protected final int manaCost;
 
     public Ability(String name, int manaCost) {
         this.name = name;
@@ -18,5 +25,14 @@ public abstract class Ability {
         return manaCost;
     }
 
-    public abstract void execute(Hero caster, List<Hero> targets);
+    /** Executes the ability using the calling thread's unseeded random source. */
+    public void execute(Hero caster, List<Hero> targets) {
+        execute(caster, targets, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Executes the ability. Any randomness (target order, proc chances) must be
+     * drawn from {@code random} so that a seeded battle always replays identically.
+     */
+    public abstract void execute(Hero caster, List<Hero> targets, RandomGenerator random);
 }
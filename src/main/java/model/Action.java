@@ -0,0 +1,11 @@
+package model;
+
+/**
+ * Actions a hero can take on its turn (see UC3).
+ */
+public enum Action {
+    ATTACK,
+    DEFEND,
+    CAST,
+    WAIT
+}
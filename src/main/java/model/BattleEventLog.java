@@ -0,0 +1,282 @@
+package model;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Compact, reusable binary log of the events of one battle.
+ *
+ * Every event is a fixed two-int record:
+ * <pre>
+ *   int 0: type (8 bits) | hero id (8 bits) | detail (8 bits) | unused (8 bits)
+ *   int 1: value
+ * </pre>
+ * See {@link BattleEventType} for the meaning of hero, detail and value per type.
+ * Hero ids are assigned from the original team order passed to the battle:
+ * team A heroes get {@code 0..n-1}, team B heroes get {@code TEAM_B_OFFSET + 0..m-1}.
+ *
+ * Recording writes straight into a growable {@code int[]}: no strings and no
+ * per-event objects. Call {@link #clear()} (done automatically by the battle engine)
+ * to reuse the same log, and its capacity, for the next battle.
+ * A log is not thread-safe; use one per concurrently running battle.
+ */
+public class BattleEventLog {
+
+    /** Id offset for team B heroes. */
+    public static final int TEAM_B_OFFSET = 16;
+    /** Hero id used by events that have no hero (ROUND_START). */
+    public static final int NO_HERO = 0xFF;
+    /** Largest supported team size. */
+    public static final int MAX_TEAM_SIZE = TEAM_B_OFFSET;
+
+    private static final int INTS_PER_EVENT = 2;
+    private static final BattleEventType[] TYPES = BattleEventType.values();
+    private static final Action[] ACTIONS = Action.values();
+    private static final StatusType[] STATUSES = StatusType.values();
+
+    private int[] events;
+    private int size; // in ints
+
+    // Heroes registered for the current battle, indexed by id
+    private final Hero[] heroes = new Hero[2 * TEAM_B_OFFSET];
+    private final Channel[] channels = new Channel[2 * TEAM_B_OFFSET];
+    private final IdentityHashMap<Hero, Integer> ids = new IdentityHashMap<>();
+
+    public BattleEventLog() {
+        this(1024);
+    }
+
+    /** @param initialEventCapacity number of events the log can hold before growing */
+    public BattleEventLog(int initialEventCapacity) {
+        this.events = new int[Math.max(1, initialEventCapacity) * INTS_PER_EVENT];
+    }
+
+    // -------------------------------------------------------------------------
+    // Battle lifecycle (used by the battle engine)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Clears the log, assigns hero ids and attaches this log as event listener to
+     * every hero, in front of any listener the hero already had (which keeps
+     * receiving every callback). Must be paired with {@link #detach()}.
+     */
+    public void attach(List<Hero> teamA, List<Hero> teamB) {
+        if (teamA.size() > MAX_TEAM_SIZE || teamB.size() > MAX_TEAM_SIZE) {
+            throw new IllegalArgumentException("Teams larger than " + MAX_TEAM_SIZE + " cannot be recorded");
+        }
+        clear();
+        register(teamA, 0);
+        register(teamB, TEAM_B_OFFSET);
+    }
+
+    private void register(List<Hero> team, int offset) {
+        for (int i = 0; i < team.size(); i++) {
+            int id = offset + i;
+            if (channels[id] == null) channels[id] = new Channel(id);
+            Hero hero = team.get(i);
+            heroes[id] = hero;
+            ids.put(hero, id);
+            channels[id].next = hero.getEventListener();
+            hero.setEventListener(channels[id]);
+        }
+    }
+
+    /** Restores the listeners the heroes of the current battle had before {@link #attach}. */
+    public void detach() {
+        for (int id = 0; id < heroes.length; id++) {
+            if (heroes[id] != null) {
+                heroes[id].setEventListener(channels[id].next);
+                channels[id].next = null;
+                heroes[id] = null;
+            }
+        }
+        ids.clear();
+    }
+
+    /** Returns the id assigned to {@code hero} in the current battle, or {@link #NO_HERO}. */
+    public int idOf(Hero hero) {
+        Integer id = ids.get(hero);
+        return id == null ? NO_HERO : id;
+    }
+
+    // -------------------------------------------------------------------------
+    // Recording
+    // -------------------------------------------------------------------------
+
+    public void roundStart(int round) {
+        append(BattleEventType.ROUND_START, NO_HERO, 0, round);
+    }
+
+    /** Records that {@code hero} takes {@code action}; {@code abilitySlot} is -1 unless casting. */
+    public void action(Hero hero, Action action, int abilitySlot) {
+        append(BattleEventType.ACTION, idOf(hero), action.ordinal(), abilitySlot);
+    }
+
+    private void append(BattleEventType type, int heroId, int detail, int value) {
+        if (size + INTS_PER_EVENT > events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+        }
+        events[size++] = type.ordinal() << 24 | (heroId & 0xFF) << 16 | (detail & 0xFF) << 8;
+        events[size++] = value;
+    }
+
+    /** Discards all recorded events, keeping the buffer for reuse. */
+    public void clear() {
+        size = 0;
+    }
+
+    /** Number of recorded events. */
+    public int eventCount() {
+        return size / INTS_PER_EVENT;
+    }
+
+    /** Returns a cursor positioned before the first event. */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    // -------------------------------------------------------------------------
+    // Serialization
+    // -------------------------------------------------------------------------
+
+    /** Writes the event count followed by the raw records. Needs {@code 4 + 8 * eventCount()} bytes. */
+    public void writeTo(ByteBuffer out) {
+        out.putInt(eventCount());
+        for (int i = 0; i < size; i++) out.putInt(events[i]);
+    }
+
+    /**
+     * Replaces the contents of this log with events previously written by {@link #writeTo}.
+     * Every record is checked before the log is touched, so a rejected buffer leaves
+     * the log as it was.
+     * @throws BufferUnderflowException if the buffer holds fewer records than its count says
+     * @throws IllegalArgumentException if a record has an unknown type, a hero id outside
+     *         both teams, or a detail that is not a valid action or status
+     */
+    public void readFrom(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || (long) count * INTS_PER_EVENT * Integer.BYTES > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        int needed = count * INTS_PER_EVENT;
+        int[] read = new int[Math.max(needed, events.length)];
+        for (int i = 0; i < needed; i++) read[i] = in.getInt();
+        for (int i = 0; i < needed; i += INTS_PER_EVENT) validate(read[i], i / INTS_PER_EVENT);
+        events = read;
+        size = needed;
+    }
+
+    private static void validate(int header, int index) {
+        int type = header >>> 24;
+        if (type >= TYPES.length) {
+            throw new IllegalArgumentException("Corrupt battle event " + index + ": type " + type);
+        }
+        int heroId = (header >>> 16) & 0xFF;
+        boolean validHero = TYPES[type] == BattleEventType.ROUND_START
+                ? heroId == NO_HERO
+                : heroId < TEAM_B_OFFSET + MAX_TEAM_SIZE;
+        if (!validHero) {
+            throw new IllegalArgumentException("Corrupt battle event " + index + ": hero id " + heroId);
+        }
+        int detail = (header >>> 8) & 0xFF;
+        int details;
+        switch (TYPES[type]) {
+            case ACTION: details = ACTIONS.length; break;
+            case STATUS_APPLIED:
+            case STATUS_EXPIRED: details = STATUSES.length; break;
+            default: details = 1;
+        }
+        if (detail >= details) {
+            throw new IllegalArgumentException("Corrupt battle event " + index + ": detail " + detail);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Per-hero listener
+    // -------------------------------------------------------------------------
+
+    /**
+     * Listener attached to one hero; knows that hero's id so no lookup is needed, and
+     * forwards to the listener it displaced.
+     */
+    private final class Channel implements HeroEventListener {
+        private final int id;
+        private HeroEventListener next; // Listener the hero had before attach, or null
+
+        Channel(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public void onDamageTaken(Hero hero, int damage, int absorbed) {
+            if (absorbed > 0) append(BattleEventType.SHIELD_ABSORBED, id, 0, absorbed);
+            append(BattleEventType.DAMAGE, id, 0, damage);
+            if (next != null) next.onDamageTaken(hero, damage, absorbed);
+        }
+
+        @Override
+        public void onDeath(Hero hero) {
+            append(BattleEventType.DEATH, id, 0, 0);
+            if (next != null) next.onDeath(hero);
+        }
+
+        @Override
+        public void onStatusApplied(Hero hero, StatusType type) {
+            append(BattleEventType.STATUS_APPLIED, id, type.ordinal(), 0);
+            if (next != null) next.onStatusApplied(hero, type);
+        }
+
+        @Override
+        public void onStatusExpired(Hero hero, StatusType type) {
+            append(BattleEventType.STATUS_EXPIRED, id, type.ordinal(), 0);
+            if (next != null) next.onStatusExpired(hero, type);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Streaming reader
+    // -------------------------------------------------------------------------
+
+    /**
+     * Forward-only view over the recorded events. Accessors describe the event the
+     * cursor is currently on; {@link #round()} tracks the most recent ROUND_START.
+     */
+    public final class Cursor {
+        private int position = -INTS_PER_EVENT;
+        private int round;
+
+        private Cursor() {}
+
+        /** Advances to the next event; returns false when the log is exhausted. */
+        public boolean next() {
+            position += INTS_PER_EVENT;
+            if (position >= size) return false;
+            if (type() == BattleEventType.ROUND_START) round = value();
+            return true;
+        }
+
+        public BattleEventType type() {
+            return TYPES[events[position] >>> 24];
+        }
+
+        public int heroId() {
+            return (events[position] >>> 16) & 0xFF;
+        }
+
+        public int detail() {
+            return (events[position] >>> 8) & 0xFF;
+        }
+
+        public int value() {
+            return events[position + 1];
+        }
+
+        /** Round the current event belongs to (0 before the first ROUND_START). */
+        public int round() {
+            return round;
+        }
+    }
+}
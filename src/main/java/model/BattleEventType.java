@@ -0,0 +1,21 @@
+package model;
+
+/**
+ * Kinds of events recorded in a {@link BattleEventLog}.
+ */
+public enum BattleEventType {
+    /** A new round begins. Value: round number (1-based). */
+    ROUND_START,
+    /** A hero acts. Hero: actor. Detail: {@link Action} ordinal. Value: ability slot for CAST, else -1. */
+    ACTION,
+    /** A hero lost HP. Hero: target. Value: HP lost after shields (may be 0). */
+    DAMAGE,
+    /** A hero's shield absorbed damage. Hero: target. Value: amount absorbed. */
+    SHIELD_ABSORBED,
+    /** A status effect was applied. Hero: target. Detail: {@link StatusType} ordinal. */
+    STATUS_APPLIED,
+    /** A status effect expired. Hero: target. Detail: {@link StatusType} ordinal. */
+    STATUS_EXPIRED,
+    /** A hero died. Hero: the hero that died. */
+    DEATH
+}
@@ -0,0 +1,78 @@
+package model;
+
+/**
+ * Per-hero totals computed by streaming over a {@link BattleEventLog},
+ * without rebuilding any {@link Hero} objects.
+ *
+ * Damage is attributed to the actor of the most recent ACTION event, so damage
+ * from abilities and splash is credited to the caster. Hero ids follow the log's
+ * numbering ({@link BattleEventLog#TEAM_B_OFFSET}).
+ */
+public class BattleLogSummary {
+    private static final int IDS = 2 * BattleEventLog.TEAM_B_OFFSET;
+
+    private int rounds;
+    private final int[] actions = new int[IDS];
+    private final long[] damageDealt = new long[IDS];
+    private final long[] damageTaken = new long[IDS];
+    private final long[] shieldAbsorbed = new long[IDS];
+    private final int[] deathRound = new int[IDS]; // 0 = survived
+
+    /** Summarizes every event in {@code log}. */
+    public static BattleLogSummary of(BattleEventLog log) {
+        BattleLogSummary summary = new BattleLogSummary();
+        BattleEventLog.Cursor cursor = log.cursor();
+        int actor = BattleEventLog.NO_HERO;
+        while (cursor.next()) {
+            int hero = cursor.heroId();
+            switch (cursor.type()) {
+                case ROUND_START:
+                    summary.rounds = cursor.value();
+                    break;
+                case ACTION:
+                    actor = hero;
+                    summary.actions[hero]++;
+                    break;
+                case DAMAGE:
+                    summary.damageTaken[hero] += cursor.value();
+                    if (actor != BattleEventLog.NO_HERO) summary.damageDealt[actor] += cursor.value();
+                    break;
+                case SHIELD_ABSORBED:
+                    summary.shieldAbsorbed[hero] += cursor.value();
+                    break;
+                case DEATH:
+                    summary.deathRound[hero] = cursor.round();
+                    break;
+                default:
+                    break;
+            }
+        }
+        return summary;
+    }
+
+    /** Last round that started in the battle. */
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getActions(int heroId) {
+        return actions[heroId];
+    }
+
+    public long getDamageDealt(int heroId) {
+        return damageDealt[heroId];
+    }
+
+    public long getDamageTaken(int heroId) {
+        return damageTaken[heroId];
+    }
+
+    public long getShieldAbsorbed(int heroId) {
+        return shieldAbsorbed[heroId];
+    }
+
+    /** Round in which the hero died, or 0 if it survived. */
+    public int getDeathRound(int heroId) {
+        return deathRound[heroId];
+    }
+}
@@ -0,0 +1,107 @@
+package model;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters describing what the battle engine did, shared by every battle
+ * run through a metrics-enabled {@code BattleServiceImpl}.
+ *
+ * Everything is a {@link LongAdder}, so battles on many threads record without
+ * contending on a lock or a single cache line. Histograms use power-of-two buckets:
+ * bucket {@code i} counts values in {@code [2^i, 2^(i+1))}, bucket 0 also takes 0,
+ * and the last bucket takes everything above. {@link #snapshot()} copies the
+ * counters into a plain {@link BattleMetricsSnapshot}; counts recorded while a
+ * snapshot is taken may land in it or in the next one.
+ */
+public class BattleMetrics {
+
+    /** Rounds buckets; the last one ({@code >= 512}) also holds battles stopped by the round cap. */
+    public static final int ROUND_BUCKETS = 10;
+    /** Wall-time buckets in nanoseconds; the last one starts at about 1.1 s. */
+    public static final int NANOS_BUCKETS = 31;
+
+    private static final Action[] ACTIONS = Action.values();
+
+    private final LongAdder battles = new LongAdder();
+    private final LongAdder capDraws = new LongAdder();
+    private final LongAdder shieldAbsorbed = new LongAdder();
+    private final LongAdder[] roundHistogram = adders(ROUND_BUCKETS);
+    private final LongAdder[] nanosHistogram = adders(NANOS_BUCKETS);
+    private final LongAdder[] actions = adders(ACTIONS.length);
+    private final ConcurrentHashMap<String, LongAdder> casts = new ConcurrentHashMap<>();
+
+    // -------------------------------------------------------------------------
+    // Recording
+    // -------------------------------------------------------------------------
+
+    /**
+     * Records one finished battle.
+     * @param capDraw        True if the battle was stopped by the round cap
+     * @param shieldAbsorbed Damage soaked up by shields during the battle
+     */
+    public void recordBattle(int rounds, long nanos, boolean capDraw, long shieldAbsorbed) {
+        battles.increment();
+        roundHistogram[bucket(rounds, ROUND_BUCKETS)].increment();
+        nanosHistogram[bucket(nanos, NANOS_BUCKETS)].increment();
+        if (capDraw) capDraws.increment();
+        if (shieldAbsorbed > 0) this.shieldAbsorbed.add(shieldAbsorbed);
+    }
+
+    /** Adds {@code count} actions of one type, e.g. a battle's per-type tally. */
+    public void recordActions(Action action, long count) {
+        if (count > 0) actions[action.ordinal()].add(count);
+    }
+
+    /** Adds {@code count} casts of the named ability, e.g. a battle's tally for it. */
+    public void recordCasts(String ability, long count) {
+        if (count <= 0) return;
+        LongAdder counter = casts.get(ability);
+        if (counter == null) counter = casts.computeIfAbsent(ability, name -> new LongAdder());
+        counter.add(count);
+    }
+
+    // -------------------------------------------------------------------------
+    // Export
+    // -------------------------------------------------------------------------
+
+    /** Copies the current counts into an immutable snapshot. */
+    public BattleMetricsSnapshot snapshot() {
+        long[] actionCounts = new long[ACTIONS.length];
+        for (int i = 0; i < actionCounts.length; i++) actionCounts[i] = actions[i].sum();
+        Map<String, Long> castCounts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : casts.entrySet()) {
+            castCounts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return new BattleMetricsSnapshot(battles.sum(), sums(roundHistogram), sums(nanosHistogram),
+                actionCounts, castCounts, capDraws.sum(), shieldAbsorbed.sum());
+    }
+
+    /** Lower bound of histogram bucket {@code i}. */
+    public static long bucketLowerBound(int i) {
+        return i == 0 ? 0 : 1L << i;
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    static int bucket(long value, int buckets) {
+        int log2 = 63 - Long.numberOfLeadingZeros(Math.max(value, 1));
+        return Math.min(log2, buckets - 1);
+    }
+
+    private static LongAdder[] adders(int n) {
+        LongAdder[] adders = new LongAdder[n];
+        for (int i = 0; i < n; i++) adders[i] = new LongAdder();
+        return adders;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < sums.length; i++) sums[i] = adders[i].sum();
+        return sums;
+    }
+}
@@ -0,0 +1,81 @@
+package model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Point-in-time copy of {@link BattleMetrics}: plain values, safe to hand to an
+ * exporter or serialize. Histogram bucket {@code i} starts at
+ * {@link BattleMetrics#bucketLowerBound(int)}.
+ */
+public class BattleMetricsSnapshot {
+    private final long battles;
+    private final long[] roundHistogram; // Battles per rounds-played bucket
+    private final long[] nanosHistogram; // Battles per wall-time bucket
+    private final long[] actions;        // Indexed by Action ordinal
+    private final Map<String, Long> casts;
+    private final long capDraws;
+    private final long shieldAbsorbed;
+
+    public BattleMetricsSnapshot(long battles, long[] roundHistogram, long[] nanosHistogram, long[] actions,
+                                 Map<String, Long> casts, long capDraws, long shieldAbsorbed) {
+        this.battles = battles;
+        this.roundHistogram = roundHistogram.clone();
+        this.nanosHistogram = nanosHistogram.clone();
+        this.actions = actions.clone();
+        this.casts = Collections.unmodifiableMap(new LinkedHashMap<>(casts));
+        this.capDraws = capDraws;
+        this.shieldAbsorbed = shieldAbsorbed;
+    }
+
+    public long getBattles() {
+        return battles;
+    }
+
+    /** Battles per rounds bucket (see {@link BattleMetrics#ROUND_BUCKETS}). */
+    public long[] getRoundHistogram() {
+        return roundHistogram.clone();
+    }
+
+    /** Battles per wall-time bucket in nanoseconds (see {@link BattleMetrics#NANOS_BUCKETS}). */
+    public long[] getNanosHistogram() {
+        return nanosHistogram.clone();
+    }
+
+    /** Actions taken of the given type, including deferred and fallback attacks. */
+    public long getActions(Action action) {
+        return actions[action.ordinal()];
+    }
+
+    /** Casts per ability name, sorted by name. */
+    public Map<String, Long> getCasts() {
+        return casts;
+    }
+
+    public long getCasts(String ability) {
+        return casts.getOrDefault(ability, 0L);
+    }
+
+    /** Battles stopped as a draw by the round cap. */
+    public long getCapDraws() {
+        return capDraws;
+    }
+
+    /** Total damage soaked up by shields. */
+    public long getShieldAbsorbed() {
+        return shieldAbsorbed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("BattleMetrics{battles=").append(battles);
+        for (Action action : Action.values()) {
+            out.append(", ").append(action).append('=').append(actions[action.ordinal()]);
+        }
+        return out.append(", casts=").append(casts)
+                .append(", capDraws=").append(capDraws)
+                .append(", shieldAbsorbed=").append(shieldAbsorbed)
+                .append('}').toString();
+    }
+}
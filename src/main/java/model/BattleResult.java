@@ -9,14 +9,20 @@ public class BattleResult {
     private List<Hero> winningTeam;
     private List<Hero> losingTeam;
     private boolean isDraw;
-    // Add more fields as needed (e.g., turn log, stats)
+    private int rounds; // Number of rounds played before the battle ended
+    private BattleEventLog eventLog; // Only set when the battle was recorded
 
     public BattleResult() {}
 
     public BattleResult(List<Hero> winningTeam, List<Hero> losingTeam, boolean isDraw) {
+        this(winningTeam, losingTeam, isDraw, 0);
+    }
+
+    public BattleResult(List<Hero> winningTeam, List<Hero> losingTeam, boolean isDraw, int rounds) {
         this.winningTeam = winningTeam;
         this.losingTeam = losingTeam;
         this.isDraw = isDraw;
+        this.rounds = rounds;
     }
 
     public List<Hero> getWinningTeam() {
@@ -31,6 +37,15 @@ public class BattleResult {
         return isDraw;
     }
 
+    public int getRounds() {
+        return rounds;
+    }
+
+    /** Event log of the battle, or null if it was not recorded. */
+    public BattleEventLog getEventLog() {
+        return eventLog;
+    }
+
     public void setWinningTeam(List<Hero> winningTeam) {
         this.winningTeam = winningTeam;
     }
@@ -42,4 +57,12 @@ public class BattleResult {
     public void setDraw(boolean draw) {
         isDraw = draw;
     }
+
+    public void setRounds(int rounds) {
+        this.rounds = rounds;
+    }
+
+    public void setEventLog(BattleEventLog eventLog) {
+        this.eventLog = eventLog;
+    }
 }
@@ -0,0 +1,76 @@
+package model;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PvE battle rewards (UC6): every defeated enemy unit of level L is worth
+ * Exp(L) = 50*L experience, split equally among the winners still alive, and
+ * G(L) = 75*L gold for the winning player.
+ *
+ * {@link #awardAll(Collection)} settles many battles at once: each hero's shares
+ * from all of them are summed first, so a hero that won several battles gains its
+ * experience (and any level-ups) in a single {@link Hero#gainExperience(int)} call.
+ */
+public final class BattleRewards {
+
+    /** Experience per level of a defeated enemy. */
+    public static final int EXP_PER_LEVEL = 50;
+    /** Gold per level of a defeated enemy. */
+    public static final int GOLD_PER_LEVEL = 75;
+
+    private BattleRewards() {}
+
+    /** Total experience for defeating enemies with the given summed level. */
+    public static int experienceFor(int enemyLevels) {
+        return EXP_PER_LEVEL * enemyLevels;
+    }
+
+    /** Total gold for defeating enemies with the given summed level. */
+    public static long goldFor(int enemyLevels) {
+        return (long) GOLD_PER_LEVEL * enemyLevels;
+    }
+
+    /** Sum of the levels of a team. */
+    public static int levelsOf(List<Hero> team) {
+        int total = 0;
+        for (Hero hero : team) total += hero.getLevel();
+        return total;
+    }
+
+    /**
+     * Awards one battle to its winning team.
+     * @return Gold won, 0 for a draw
+     */
+    public static long award(BattleResult result) {
+        return awardAll(List.of(result));
+    }
+
+    /**
+     * Awards every battle to its winning team, gaining experience once per hero.
+     * Draws award nothing.
+     * @return Total gold won across the battles
+     */
+    public static long awardAll(Collection<BattleResult> results) {
+        Map<Hero, Integer> experience = new IdentityHashMap<>();
+        long gold = 0;
+        for (BattleResult result : results) {
+            if (result.isDraw()) continue;
+            int enemyLevels = levelsOf(result.getLosingTeam());
+            int survivors = 0;
+            for (Hero hero : result.getWinningTeam()) if (hero.isAlive()) survivors++;
+            if (survivors == 0) continue;
+            int share = experienceFor(enemyLevels) / survivors;
+            for (Hero hero : result.getWinningTeam()) {
+                if (hero.isAlive()) experience.merge(hero, share, Integer::sum);
+            }
+            gold += goldFor(enemyLevels);
+        }
+        for (Map.Entry<Hero, Integer> entry : experience.entrySet()) {
+            entry.getKey().gainExperience(entry.getValue());
+        }
+        return gold;
+    }
+}
@@ -0,0 +1,112 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Per-battle view of one team, in acting order, that tracks which members are alive.
+ *
+ * Members report their own death (from {@link Hero#takeDamage(int)}), so the team
+ * keeps a live count and a pointer to the first alive member up to date and
+ * answers {@link #hasAlive()} and {@link #firstAlive()} in O(1) without scanning or
+ * allocating. Heroes cannot be revived mid-battle, so the pointer only moves forward
+ * between re-orderings.
+ *
+ * The acting order is only recomputed by {@link #sortIfDirty(Comparator)} after a
+ * member's level or attack has changed (members flag the team themselves), so
+ * re-sorting every round costs nothing while initiative is unchanged.
+ *
+ * The team is a read-only {@link List} and can be passed anywhere a target list is
+ * expected. Call {@link #release()} when the battle ends to detach the members.
+ */
+public class BattleTeam extends AbstractList<Hero> implements RandomAccess {
+    private final Hero[] members;
+    private int aliveCount;
+    private int firstAlive; // Index into members; == members.length when nobody is alive
+    private boolean orderDirty = true; // Set when a member's level/attack changed since the last sort
+
+    public BattleTeam(List<Hero> heroes) {
+        this.members = heroes.toArray(new Hero[0]);
+        for (Hero hero : members) {
+            hero.joinTeam(this);
+            if (hero.isAlive()) aliveCount++;
+        }
+        firstAlive = nextAlive(0);
+    }
+
+    @Override
+    public Hero get(int index) {
+        return members[index];
+    }
+
+    @Override
+    public int size() {
+        return members.length;
+    }
+
+    /** Number of members still alive. */
+    public int aliveCount() {
+        return aliveCount;
+    }
+
+    /** True while at least one member is alive. */
+    public boolean hasAlive() {
+        return aliveCount > 0;
+    }
+
+    /** First alive member in the current order, or null if the team is wiped out. */
+    public Hero firstAlive() {
+        return firstAlive < members.length ? members[firstAlive] : null;
+    }
+
+    /** Re-orders the members with a stable sort (e.g. by initiative). */
+    public void sortBy(Comparator<Hero> order) {
+        Arrays.sort(members, order);
+        firstAlive = nextAlive(0);
+        orderDirty = false;
+    }
+
+    /**
+     * Sorts with {@code order} only if this is the first sort or a member's level or
+     * attack changed since the last one. The sort is stable, so re-sorting unchanged
+     * keys would leave the order as it is anyway.
+     * @return true if the team was re-sorted
+     */
+    public boolean sortIfDirty(Comparator<Hero> order) {
+        if (!orderDirty) return false;
+        sortBy(order);
+        return true;
+    }
+
+    /** True if the acting order may be stale. */
+    public boolean isOrderDirty() {
+        return orderDirty;
+    }
+
+    /** Detaches every member from this team; call once the battle is over. */
+    public void release() {
+        for (Hero hero : members) hero.joinTeam(null);
+    }
+
+    /** Called by a member whose HP just reached zero. */
+    void onMemberDeath(Hero hero) {
+        aliveCount--;
+        if (firstAlive < members.length && members[firstAlive] == hero) {
+            firstAlive = nextAlive(firstAlive + 1);
+        }
+    }
+
+    /** Called by a member whose level or attack just changed. */
+    void onMemberInitiativeChanged() {
+        orderDirty = true;
+    }
+
+    private int nextAlive(int from) {
+        int i = from;
+        while (i < members.length && !members[i].isAlive()) i++;
+        return i;
+    }
+}
@@ -0,0 +1,178 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of one player's PvE campaign: the party, gold, progress through the
+ * {@link #ROOMS} rooms and the measured cost of every room entered.
+ *
+ * Rooms are driven by {@code CampaignController.enterNextRoom(Campaign)}. Each room's
+ * randomness is derived from the campaign seed and the room index alone, so rooms are
+ * generated lazily and a campaign replays identically from the same seed.
+ * A campaign is owned by one player and is not thread-safe, except for gold and item
+ * points: they are updated with atomic compare-and-set, so several sessions of the
+ * same player can spend gold concurrently without ever overspending. The recruit
+ * offer and {@link #addHero} synchronize on the campaign, so a recruit can be taken,
+ * and the party grown, by only one session.
+ */
+public class Campaign {
+
+    /** Number of rooms in a campaign. */
+    public static final int ROOMS = 30;
+    /** Most heroes a party can hold. */
+    public static final int MAX_PARTY_SIZE = 5;
+
+    private final List<Hero> party;
+    private final long seed;
+    private final AtomicLong gold = new AtomicLong();
+    private final AtomicLong itemPoints = new AtomicLong(); // Score from items bought at inns
+    private int nextRoom;
+    private int lastInnRoom = -1;
+    private final RoomType[] roomTypes = new RoomType[ROOMS];
+    private final long[] roomNanos = new long[ROOMS];
+    private List<Hero> recruits = new ArrayList<>();
+
+    public Campaign(List<Hero> party, long seed) {
+        if (party.isEmpty() || party.size() > MAX_PARTY_SIZE) {
+            throw new IllegalArgumentException("A party has 1 to 5 heroes");
+        }
+        this.party = new ArrayList<>(party);
+        this.seed = seed;
+    }
+
+    /** The party; heroes are shared with the caller and changed by every room. */
+    public List<Hero> getParty() {
+        return party;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getGold() {
+        return gold.get();
+    }
+
+    public void addGold(long amount) {
+        gold.addAndGet(amount);
+    }
+
+    /**
+     * Atomically spends {@code amount} gold if the balance covers it.
+     * @return false (and nothing spent) if there is not enough gold
+     */
+    public boolean trySpendGold(long amount) {
+        if (amount < 0) throw new IllegalArgumentException("amount must not be negative");
+        while (true) {
+            long balance = gold.get();
+            if (balance < amount) return false;
+            if (gold.compareAndSet(balance, balance - amount)) return true;
+        }
+    }
+
+    public long getItemPoints() {
+        return itemPoints.get();
+    }
+
+    public void addItemPoints(long points) {
+        itemPoints.addAndGet(points);
+    }
+
+    /** Adds a recruited hero to the party. */
+    public synchronized void addHero(Hero hero) {
+        if (party.size() >= MAX_PARTY_SIZE) throw new IllegalStateException("The party is full");
+        party.add(hero);
+    }
+
+    /** Unemployed heroes offered at the last inn visited (empty if none). */
+    public synchronized List<Hero> getRecruits() {
+        return Collections.unmodifiableList(new ArrayList<>(recruits));
+    }
+
+    /** Replaces the recruits on offer; called by the inn on arrival. */
+    public synchronized void setRecruits(List<Hero> offered) {
+        recruits = new ArrayList<>(offered);
+    }
+
+    /** Removes a recruit from the offer; returns false if it was not offered (or already taken). */
+    public synchronized boolean takeRecruit(Hero recruit) {
+        for (int i = 0; i < recruits.size(); i++) {
+            if (recruits.get(i) == recruit) {
+                recruits.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Puts back a recruit taken with {@link #takeRecruit} whose hiring fell through. */
+    public synchronized void returnRecruit(Hero recruit) {
+        recruits.add(recruit);
+    }
+
+    /**
+     * Seed of a room's random stream, derived from the campaign seed and the room
+     * index alone (see {@link Seeds}).
+     */
+    public long roomSeed(int room) {
+        return Seeds.derive(seed, room);
+    }
+
+    /** Index of the room that will be entered next. */
+    public int getNextRoom() {
+        return nextRoom;
+    }
+
+    /** Index of the last inn visited, or -1 if none yet. */
+    public int getLastInnRoom() {
+        return lastInnRoom;
+    }
+
+    public boolean isFinished() {
+        return nextRoom >= ROOMS;
+    }
+
+    /** Sum of the party's hero levels. */
+    public int getCumulativeLevel() {
+        int total = 0;
+        for (Hero hero : party) total += hero.getLevel();
+        return total;
+    }
+
+    /** Type of a room already entered, or null. */
+    public RoomType getRoomType(int room) {
+        return roomTypes[room];
+    }
+
+    /** Processing time of a room already entered, in nanoseconds (0 if not entered). */
+    public long getRoomNanos(int room) {
+        return roomNanos[room];
+    }
+
+    /** Total processing time of all rooms entered so far. */
+    public long getTotalNanos() {
+        long total = 0;
+        for (long nanos : roomNanos) total += nanos;
+        return total;
+    }
+
+    /**
+     * Final score: 100 points per hero level, 10 per piece of gold, plus the points of
+     * the items bought at inns.
+     */
+    public long getScore() {
+        return 100L * getCumulativeLevel() + 10L * gold.get() + itemPoints.get();
+    }
+
+    /** Records a finished room and advances to the next one. */
+    public void completeRoom(RoomType type, long elapsedNanos) {
+        if (isFinished()) throw new IllegalStateException("Campaign already finished");
+        roomTypes[nextRoom] = type;
+        roomNanos[nextRoom] = elapsedNanos;
+        if (type == RoomType.INN) lastInnRoom = nextRoom;
+        nextRoom++;
+    }
+}
@@ -0,0 +1,42 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Precomputed PvE encounter probabilities (UC6).
+ *
+ * A room holds a battle with probability 60% + 3% for every full 10 cumulative party
+ * levels, capped at 90% (an inn otherwise). The chance for every cumulative level a
+ * party can have is computed once, so a room costs one table read and one draw.
+ */
+public final class EncounterTable {
+
+    /** Highest cumulative level a party can reach (5 heroes at level 20). */
+    public static final int MAX_CUMULATIVE_LEVEL = 100;
+
+    private static final int BASE_BATTLE_PERCENT = 60;
+    private static final int PERCENT_PER_STEP = 3;
+    private static final int LEVELS_PER_STEP = 10;
+    private static final int MAX_BATTLE_PERCENT = 90;
+
+    private static final int[] BATTLE_PERCENT = new int[MAX_CUMULATIVE_LEVEL + 1];
+
+    static {
+        for (int level = 0; level <= MAX_CUMULATIVE_LEVEL; level++) {
+            BATTLE_PERCENT[level] = Math.min(MAX_BATTLE_PERCENT,
+                    BASE_BATTLE_PERCENT + PERCENT_PER_STEP * (level / LEVELS_PER_STEP));
+        }
+    }
+
+    private EncounterTable() {}
+
+    /** Chance, in percent, that a room holds a battle for a party of the given cumulative level. */
+    public static int battlePercent(int cumulativeLevel) {
+        return BATTLE_PERCENT[Math.max(0, Math.min(cumulativeLevel, MAX_CUMULATIVE_LEVEL))];
+    }
+
+    /** Draws the type of the next room. */
+    public static RoomType drawRoom(int cumulativeLevel, RandomGenerator random) {
+        return random.nextInt(100) < battlePercent(cumulativeLevel) ? RoomType.BATTLE : RoomType.INN;
+    }
+}
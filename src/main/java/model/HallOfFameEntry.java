@@ -0,0 +1,28 @@
+package model;
+
+/**
+ * A final campaign score kept in the hall of fame.
+ */
+public class HallOfFameEntry {
+    private final String player;
+    private final long score;
+
+    public HallOfFameEntry(String player, long score) {
+        this.player = player;
+        this.score = score;
+    }
+
+    /** Entry for a finished campaign, scored by {@link Campaign#getScore()}. */
+    public static HallOfFameEntry of(String player, Campaign campaign) {
+        if (!campaign.isFinished()) throw new IllegalStateException("Campaign is not finished");
+        return new HallOfFameEntry(player, campaign.getScore());
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public long getScore() {
+        return score;
+    }
+}
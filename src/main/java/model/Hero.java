@@ -1,9 +1,10 @@
 package model;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 import model.heroclass.OrderStrategy;
 import model.heroclass.ChaosStrategy;
 import model.heroclass.WarriorStrategy;
@@ -14,6 +15,12 @@ import model.heroclass.MageStrategy;
  * With the use of AI
  */
 public class Hero {
+    /** Highest level a hero can reach through experience. */
+    public static final int MAX_LEVEL = 20;
+
+    private static final int CLASS_COUNT = HeroClass.values().length;
+    private static final int[] EXP_TO_LEVEL_UP = buildExpTable(); // Indexed by level, 1..MAX_LEVEL-1
+
     private String name;
     private HeroClass heroClass;
     private int level;
@@ -21,10 +28,11 @@ public class Hero {
     private boolean isStunned;
     private boolean isAlive;
 
-    private Map<HeroClass, Integer> classLevels;
+    private final int[] classLevels = new int[CLASS_COUNT]; // Indexed by HeroClass.ordinal()
     private HeroClass specializationClass; // First class to reach level 5
     private HeroClass hybridClass;         // Set when two classes reach level 5
     private HeroClassStrategy classStrategy; // Active Strategy pattern implementation
+    private HeroClass activeClass;           // Class whose strategy is active (last class levelled)
     private int baseAttack;
     private int baseDefense;
     private int maxHealth;
@@ -33,7 +41,16 @@ public class Hero {
     private int currentMana;
     private int shieldAmount; // Active shield HP absorbed before taking real damage
 
+    // Derived stats (base + specialization/hybrid bonuses), recomputed by refreshDerivedStats()
+    // whenever a base stat, class level or specialization/hybrid changes.
+    private int currentAttack;
+    private int currentDefense;
+    private int currentMaxHealth;
+    private int currentMaxMana;
+
     private List<StatusEffect> statusEffects;
+    private HeroEventListener eventListener; // Optional observer, null when nobody listens
+    private BattleTeam battleTeam;           // Team tracking this hero during a battle, if any
 
     public Hero(String name, HeroClass heroClass) {
         this.name = name;
@@ -45,15 +62,59 @@ public class Hero {
         this.currentHealth = 100;
         this.maxMana = 50;
         this.currentMana = 50;
-        this.classLevels = new HashMap<>();
-        this.classLevels.put(heroClass, 1);
+        this.classLevels[heroClass.ordinal()] = 1;
         this.classStrategy = createStrategy(heroClass);
+        this.activeClass = heroClass;
         this.specializationClass = null;
         this.hybridClass = null;
         this.experience = 0;
         this.isStunned = false;
         this.isAlive = true;
         this.statusEffects = new ArrayList<>();
+        refreshDerivedStats();
+    }
+
+    /**
+     * Copy constructor: creates an independent deep copy of {@code other}, including
+     * class levels, current HP/mana/shield and active status effects.
+     * Used to run battles on throwaway copies of a persistent party.
+     */
+    public Hero(Hero other) {
+        this.name = other.name;
+        this.heroClass = other.heroClass;
+        this.level = other.level;
+        this.experience = other.experience;
+        this.isStunned = other.isStunned;
+        this.isAlive = other.isAlive;
+        System.arraycopy(other.classLevels, 0, this.classLevels, 0, CLASS_COUNT);
+        this.specializationClass = other.specializationClass;
+        this.hybridClass = other.hybridClass;
+        this.classStrategy = other.classStrategy;
+        this.activeClass = other.activeClass;
+        this.baseAttack = other.baseAttack;
+        this.baseDefense = other.baseDefense;
+        this.maxHealth = other.maxHealth;
+        this.currentHealth = other.currentHealth;
+        this.maxMana = other.maxMana;
+        this.currentMana = other.currentMana;
+        this.shieldAmount = other.shieldAmount;
+        this.statusEffects = new ArrayList<>(other.statusEffects.size());
+        for (StatusEffect effect : other.statusEffects) {
+            this.statusEffects.add(new StatusEffect(effect));
+        }
+        this.currentAttack = other.currentAttack;
+        this.currentDefense = other.currentDefense;
+        this.currentMaxHealth = other.currentMaxHealth;
+        this.currentMaxMana = other.currentMaxMana;
+    }
+
+    /**
+     * Creates a copy of {@code template} under another name, e.g. to stamp out PvE
+     * enemies from precomputed templates without replaying their level-ups.
+     */
+    public Hero(String name, Hero template) {
+        this(template);
+        this.name = name;
     }
 
     // Getters
@@ -99,59 +160,96 @@ public class Hero {
     // Stat mutators used by HeroClassStrategy implementations
     public void addBaseAttack(int amount)        {
         this.baseAttack += amount;
+        refreshDerivedStats();
     }
     public void addBaseDefense(int amount)       {
         this.baseDefense += amount;
+        refreshDerivedStats();
     }
     public void addMaxHealth(int amount)         {
         this.maxHealth += amount;
+        refreshDerivedStats();
     }
     public void addMaxMana(int amount)           {
         this.maxMana += amount;
+        refreshDerivedStats();
     }
 
     /**
      * Level up a specific class. Handles specialization and hybrid logic.
+     * @throws IllegalArgumentException if the hero is already at {@link #MAX_LEVEL}
      */
     public void levelUp(HeroClass classType) {
-        int currentClassLevel = classLevels.getOrDefault(classType, 0);
-        classLevels.put(classType, currentClassLevel + 1);
-        level++;
+        levelUp(classType, 1);
+    }
+
+    /**
+     * Levels up a class {@code levels} times in one step: base growth and class
+     * bonuses are applied multiplied, and derived stats are recomputed once. Same end
+     * state as calling {@link #levelUp(HeroClass)} {@code levels} times.
+     * @throws IllegalArgumentException if {@code levels} is negative or would take the
+     *                                  hero past {@link #MAX_LEVEL}
+     */
+    public void levelUp(HeroClass classType, int levels) {
+        if (levels < 0) throw new IllegalArgumentException("levels must not be negative");
+        if (levels > MAX_LEVEL - level) {
+            throw new IllegalArgumentException(name + " is level " + level + "; cannot gain " + levels
+                    + " levels past MAX_LEVEL " + MAX_LEVEL);
+        }
+        if (levels == 0) return;
+        int before = classLevels[classType.ordinal()];
+        int classLevel = before + levels;
+        classLevels[classType.ordinal()] = classLevel;
+        level += levels;
+        if (battleTeam != null) battleTeam.onMemberInitiativeChanged();
         // Base stat growth
-        baseAttack += 1;
-        baseDefense += 1;
-        maxHealth += 5;
-        maxMana += 2;
+        baseAttack += levels;
+        baseDefense += levels;
+        maxHealth += 5 * levels;
+        maxMana += 2 * levels;
         // Apply class-specific bonuses
-        applyClassBonuses(classType);
-        // Specialization logic
-        if (classLevels.get(classType) == 5 && specializationClass == null) {
-            specializationClass = classType;
-        } else if (classLevels.get(classType) == 5 && specializationClass != null && hybridClass == null && specializationClass != classType) {
-            hybridClass = classType; // Now hybridized
+        applyClassBonuses(classType, levels);
+        // Specialization logic: the class reached level 5 during these levels
+        if (before < 5 && classLevel >= 5) {
+            if (specializationClass == null) {
+                specializationClass = classType;
+            } else if (hybridClass == null && specializationClass != classType) {
+                hybridClass = classType; // Now hybridized
+            }
         }
+        refreshDerivedStats();
     }
 
     /**
-     * Factory: maps a HeroClass enum value to its Strategy implementation.
+     * Factory: maps a HeroClass enum value to its (stateless, shared) Strategy implementation.
      */
     private HeroClassStrategy createStrategy(HeroClass classType) {
         switch (classType) {
-            case ORDER:   return new OrderStrategy();
-            case CHAOS:   return new ChaosStrategy();
-            case WARRIOR: return new WarriorStrategy();
-            case MAGE:    return new MageStrategy();
-            default:      return new WarriorStrategy(); // fallback for HYBRID
+            case ORDER:   return OrderStrategy.INSTANCE;
+            case CHAOS:   return ChaosStrategy.INSTANCE;
+            case WARRIOR: return WarriorStrategy.INSTANCE;
+            case MAGE:    return MageStrategy.INSTANCE;
+            default:      return WarriorStrategy.INSTANCE; // fallback for HYBRID
         }
     }
 
     /**
      * Apply class-specific stat bonuses per level by delegating to the Strategy.
      */
-    private void applyClassBonuses(HeroClass classType) {
+    private void applyClassBonuses(HeroClass classType, int levels) {
         // Update active strategy when levelling a different class
         classStrategy = createStrategy(classType);
-        classStrategy.applyLevelBonus(this);
+        activeClass = classType;
+        classStrategy.applyLevelBonus(this, levels);
+    }
+
+    /**
+     * Replaces the active strategy without touching class levels, e.g. with
+     * {@link model.heroclass.EnemyStrategy} for PvE enemies. The next level-up in a
+     * class switches back to that class's strategy.
+     */
+    public void setClassStrategy(HeroClassStrategy strategy) {
+        this.classStrategy = strategy;
     }
 
     /** Returns the abilities available to this hero's current class strategy. */
@@ -159,16 +257,53 @@ public class Hero {
         return classStrategy.getAbilities();
     }
 
+    // -------------------------------------------------------------------------
+    // Derived stats
+    // -------------------------------------------------------------------------
+
+    /** Current attack (base + class/hybrid bonuses). */
+    public int getCurrentAttack() {
+        return currentAttack;
+    }
+
+    /** Current defense (base + class/hybrid bonuses). */
+    public int getCurrentDefense() {
+        return currentDefense;
+    }
+
+    /** Current max health (base + class/hybrid bonuses). */
+    public int getCurrentMaxHealth() {
+        return currentMaxHealth;
+    }
+
+    /** Current max mana (base + class/hybrid bonuses). */
+    public int getCurrentMaxMana() {
+        return currentMaxMana;
+    }
+
+    /**
+     * Recomputes the cached derived stats. Must be called after any change to a
+     * base stat, a class level, or the specialization/hybrid classes.
+     */
+    private void refreshDerivedStats() {
+        int previousAttack = currentAttack;
+        currentAttack = computeAttack();
+        if (currentAttack != previousAttack && battleTeam != null) battleTeam.onMemberInitiativeChanged();
+        currentDefense = computeDefense();
+        currentMaxHealth = computeMaxHealth();
+        currentMaxMana = computeMaxMana();
+    }
+
     /**
      * Calculate current attack (base + class/hybrid bonuses).
      */
-    public int getCurrentAttack() {
+    private int computeAttack() {
         int attack = baseAttack;
         // Double growth if specialized and not hybrid
         if (specializationClass != null && hybridClass == null) {
-            if (specializationClass == HeroClass.WARRIOR) attack += 1 * classLevels.getOrDefault(HeroClass.WARRIOR, 0);
-            if (specializationClass == HeroClass.CHAOS) attack += 3 * classLevels.getOrDefault(HeroClass.CHAOS, 0);
-            if (specializationClass == HeroClass.MAGE) attack += 1 * classLevels.getOrDefault(HeroClass.MAGE, 0);
+            if (specializationClass == HeroClass.WARRIOR) attack += 1 * getClassLevel(HeroClass.WARRIOR);
+            if (specializationClass == HeroClass.CHAOS) attack += 3 * getClassLevel(HeroClass.CHAOS);
+            if (specializationClass == HeroClass.MAGE) attack += 1 * getClassLevel(HeroClass.MAGE);
         }
         // Hybrid logic: combine growths, no double
         if (hybridClass != null && specializationClass != null) {
@@ -189,9 +324,9 @@ public class Hero {
 
     private int getClassAttackBonus(HeroClass classType) {
         switch (classType) {
-            case WARRIOR: return 2 * classLevels.getOrDefault(HeroClass.WARRIOR, 0);
-            case CHAOS: return 3 * classLevels.getOrDefault(HeroClass.CHAOS, 0);
-            case MAGE: return 1 * classLevels.getOrDefault(HeroClass.MAGE, 0);
+            case WARRIOR: return 2 * getClassLevel(HeroClass.WARRIOR);
+            case CHAOS: return 3 * getClassLevel(HeroClass.CHAOS);
+            case MAGE: return 1 * getClassLevel(HeroClass.MAGE);
             default: return 0;
         }
     }
@@ -199,11 +334,11 @@ public class Hero {
     /**
      * Calculate current defense (base + class/hybrid bonuses).
      */
-    public int getCurrentDefense() {
+    private int computeDefense() {
         int defense = baseDefense;
         if (specializationClass != null && hybridClass == null) {
-            if (specializationClass == HeroClass.ORDER) defense += 2 * classLevels.getOrDefault(HeroClass.ORDER, 0);
-            if (specializationClass == HeroClass.WARRIOR) defense += 3 * classLevels.getOrDefault(HeroClass.WARRIOR, 0);
+            if (specializationClass == HeroClass.ORDER) defense += 2 * getClassLevel(HeroClass.ORDER);
+            if (specializationClass == HeroClass.WARRIOR) defense += 3 * getClassLevel(HeroClass.WARRIOR);
         }
         if (hybridClass != null && specializationClass != null) {
             defense += getHybridDefenseBonus();
@@ -222,8 +357,8 @@ public class Hero {
 
     private int getClassDefenseBonus(HeroClass classType) {
         switch (classType) {
-            case ORDER: return 2 * classLevels.getOrDefault(HeroClass.ORDER, 0);
-            case WARRIOR: return 3 * classLevels.getOrDefault(HeroClass.WARRIOR, 0);
+            case ORDER: return 2 * getClassLevel(HeroClass.ORDER);
+            case WARRIOR: return 3 * getClassLevel(HeroClass.WARRIOR);
             default: return 0;
         }
     }
@@ -231,10 +366,10 @@ public class Hero {
     /**
      * Calculate current max health (base + class/hybrid bonuses).
      */
-    public int getCurrentMaxHealth() {
+    private int computeMaxHealth() {
         int hp = maxHealth;
         if (specializationClass != null && hybridClass == null) {
-            if (specializationClass == HeroClass.CHAOS) hp += 5 * classLevels.getOrDefault(HeroClass.CHAOS, 0);
+            if (specializationClass == HeroClass.CHAOS) hp += 5 * getClassLevel(HeroClass.CHAOS);
         }
         if (hybridClass != null && specializationClass != null) {
             hp += getHybridHealthBonus();
@@ -253,7 +388,7 @@ public class Hero {
 
     private int getClassHealthBonus(HeroClass classType) {
         switch (classType) {
-            case CHAOS: return 5 * classLevels.getOrDefault(HeroClass.CHAOS, 0);
+            case CHAOS: return 5 * getClassLevel(HeroClass.CHAOS);
             default: return 0;
         }
     }
@@ -261,11 +396,11 @@ public class Hero {
     /**
      * Calculate current max mana (base + class/hybrid bonuses).
      */
-    public int getCurrentMaxMana() {
+    private int computeMaxMana() {
         int mana = maxMana;
         if (specializationClass != null && hybridClass == null) {
-            if (specializationClass == HeroClass.ORDER) mana += 5 * classLevels.getOrDefault(HeroClass.ORDER, 0);
-            if (specializationClass == HeroClass.MAGE) mana += 5 * classLevels.getOrDefault(HeroClass.MAGE, 0);
+            if (specializationClass == HeroClass.ORDER) mana += 5 * getClassLevel(HeroClass.ORDER);
+            if (specializationClass == HeroClass.MAGE) mana += 5 * getClassLevel(HeroClass.MAGE);
         }
         if (hybridClass != null && specializationClass != null) {
             mana += getHybridManaBonus();
@@ -284,8 +419,8 @@ public class Hero {
 
     private int getClassManaBonus(HeroClass classType) {
         switch (classType) {
-            case ORDER: return 5 * classLevels.getOrDefault(HeroClass.ORDER, 0);
-            case MAGE: return 5 * classLevels.getOrDefault(HeroClass.MAGE, 0);
+            case ORDER: return 5 * getClassLevel(HeroClass.ORDER);
+            case MAGE: return 5 * getClassLevel(HeroClass.MAGE);
             default: return 0;
         }
     }
@@ -294,16 +429,24 @@ public class Hero {
      * Apply incoming damage. Shield absorbs first, then real HP is reduced.
      */
     public void takeDamage(int damage) {
+        int absorbed = 0;
         if (shieldAmount > 0) {
-            int absorbed = Math.min(shieldAmount, damage);
+            absorbed = Math.min(shieldAmount, damage);
             shieldAmount -= absorbed;
             damage -= absorbed;
         }
+        boolean wasAlive = isAlive;
+        int healthBefore = currentHealth;
         currentHealth -= damage;
         if (currentHealth <= 0) {
             currentHealth = 0;
             isAlive = false;
         }
+        if (wasAlive && !isAlive && battleTeam != null) battleTeam.onMemberDeath(this);
+        if (eventListener != null) {
+            eventListener.onDamageTaken(this, healthBefore - currentHealth, absorbed);
+            if (wasAlive && !isAlive) eventListener.onDeath(this);
+        }
     }
 
     public void useMana(int amount) {
@@ -315,6 +458,7 @@ public class Hero {
     public void addStatusEffect(StatusEffect effect) {
         statusEffects.add(effect);
         effect.apply(this);
+        if (eventListener != null) eventListener.onStatusApplied(this, effect.getType());
     }
 
     public void processStatusEffects() {
@@ -324,11 +468,33 @@ public class Hero {
             if (effect.isExpired()) {
                 effect.expire(this);
                 expired.add(effect);
+                if (eventListener != null) eventListener.onStatusExpired(this, effect.getType());
             }
         }
         statusEffects.removeAll(expired);
     }
 
+    /** Read-only view of the active status effects. */
+    public List<StatusEffect> getStatusEffects() {
+        return Collections.unmodifiableList(statusEffects);
+    }
+
+    /**
+     * Overwrites the hero's mutable combat state in one step. Used by battle engines
+     * that simulate a fight outside of Hero and write the final state back; the given
+     * effects are installed as-is (not re-applied) and no listener events are fired.
+     */
+    public void setCombatState(int currentHealth, int currentMana, int shieldAmount,
+                               boolean stunned, boolean alive, List<StatusEffect> statusEffects) {
+        this.currentHealth = currentHealth;
+        this.currentMana = currentMana;
+        this.shieldAmount = shieldAmount;
+        this.isStunned = stunned;
+        this.isAlive = alive;
+        this.statusEffects.clear();
+        this.statusEffects.addAll(statusEffects);
+    }
+
     public boolean hasStatus(StatusType type) {
         for (StatusEffect effect : statusEffects) {
             if (effect.getType() == type && !effect.isExpired()) return true;
@@ -380,23 +546,55 @@ public class Hero {
     }
 
     public void castAbility(Ability ability, List<Hero> targets) {
+        castAbility(ability, targets, ThreadLocalRandom.current());
+    }
+
+    /** Casts an ability, drawing any randomness from the given (per-battle) source. */
+    public void castAbility(Ability ability, List<Hero> targets, RandomGenerator random) {
         if (!canCast(ability)) throw new IllegalStateException("Not enough mana");
         currentMana -= ability.getManaCost();
-        ability.execute(this, targets);
+        ability.execute(this, targets, random);
     }
 
     // Experience and leveling
+
+    /**
+     * Gains experience and levels up the hero's own class for every threshold passed,
+     * in one bulk level-up. Levelling stops at {@link #MAX_LEVEL}; experience beyond
+     * it is discarded.
+     */
     public void gainExperience(int exp) {
-        experience += exp;
-        while (experience >= getExpToLevelUp()) {
-            experience -= getExpToLevelUp();
-            levelUp(heroClass); // Default: level up current class
+        if (level >= MAX_LEVEL) return;
+        long remaining = (long) experience + exp;
+        int target = level;
+        while (target < MAX_LEVEL && remaining >= EXP_TO_LEVEL_UP[target]) {
+            remaining -= EXP_TO_LEVEL_UP[target];
+            target++;
         }
+        levelUp(heroClass, target - level); // Default: level up current class
+        experience = target == MAX_LEVEL ? 0 : (int) remaining;
+    }
+
+    /** Removes experience gained toward the next level (levels are never lost). */
+    public void loseExperience(int exp) {
+        experience = Math.max(0, experience - exp);
     }
 
-    private int getExpToLevelUp() {
-        // Example: Exp(L) = Exp(L-1)+500+75*L+20*L^2
-        return 500 + 75 * level + 20 * level * level;
+    /**
+     * Experience needed to go from {@code level} to the next level
+     * (0 at {@link #MAX_LEVEL} and above).
+     */
+    public static int expToLevelUp(int level) {
+        return level >= MAX_LEVEL ? 0 : EXP_TO_LEVEL_UP[Math.max(level, 1)];
+    }
+
+    private static int[] buildExpTable() {
+        int[] table = new int[MAX_LEVEL];
+        for (int level = 1; level < MAX_LEVEL; level++) {
+            // Example: Exp(L) = Exp(L-1)+500+75*L+20*L^2
+            table[level] = 500 + 75 * level + 20 * level * level;
+        }
+        return table;
     }
 
     // Utility methods
@@ -414,6 +612,141 @@ public class Hero {
         currentHealth = Math.min(currentHealth + amount, getCurrentMaxHealth());
     }
 
+    /** Returns the number of levels this hero has in the given class (0 if never levelled). */
+    public int getClassLevel(HeroClass classType) {
+        return classLevels[classType.ordinal()];
+    }
+
+    // -------------------------------------------------------------------------
+    // Snapshot / restore
+    // -------------------------------------------------------------------------
+
+    /** Captures all mutable state into a new {@link HeroSnapshot}. */
+    public HeroSnapshot snapshot() {
+        return snapshot(new HeroSnapshot());
+    }
+
+    /** Captures all mutable state into {@code into}, overwriting it, and returns it. */
+    public HeroSnapshot snapshot(HeroSnapshot into) {
+        into.level = level;
+        into.experience = experience;
+        into.stunned = isStunned;
+        into.alive = isAlive;
+        System.arraycopy(classLevels, 0, into.classLevels, 0, CLASS_COUNT);
+        into.specializationClass = specializationClass;
+        into.hybridClass = hybridClass;
+        into.activeClass = activeClass;
+        into.classStrategy = classStrategy;
+        into.baseAttack = baseAttack;
+        into.baseDefense = baseDefense;
+        into.maxHealth = maxHealth;
+        into.currentHealth = currentHealth;
+        into.maxMana = maxMana;
+        into.currentMana = currentMana;
+        into.shieldAmount = shieldAmount;
+        into.currentAttack = currentAttack;
+        into.currentDefense = currentDefense;
+        into.currentMaxHealth = currentMaxHealth;
+        into.currentMaxMana = currentMaxMana;
+        int count = statusEffects.size();
+        if (into.statusEffects.length < count) into.statusEffects = new StatusEffect[count];
+        for (int i = 0; i < count; i++) into.statusEffects[i] = new StatusEffect(statusEffects.get(i));
+        into.statusEffectCount = count;
+        return into;
+    }
+
+    /**
+     * Rolls all mutable state back to {@code snapshot} (which may come from another
+     * hero, e.g. to commit a copy's state). No listener events are fired.
+     * @throws IllegalStateException if this hero is currently taking part in a battle
+     */
+    public void restore(HeroSnapshot snapshot) {
+        if (battleTeam != null) throw new IllegalStateException(name + " is in a battle");
+        level = snapshot.level;
+        experience = snapshot.experience;
+        isStunned = snapshot.stunned;
+        isAlive = snapshot.alive;
+        System.arraycopy(snapshot.classLevels, 0, classLevels, 0, CLASS_COUNT);
+        specializationClass = snapshot.specializationClass;
+        hybridClass = snapshot.hybridClass;
+        activeClass = snapshot.activeClass;
+        classStrategy = snapshot.classStrategy;
+        baseAttack = snapshot.baseAttack;
+        baseDefense = snapshot.baseDefense;
+        maxHealth = snapshot.maxHealth;
+        currentHealth = snapshot.currentHealth;
+        maxMana = snapshot.maxMana;
+        currentMana = snapshot.currentMana;
+        shieldAmount = snapshot.shieldAmount;
+        currentAttack = snapshot.currentAttack;
+        currentDefense = snapshot.currentDefense;
+        currentMaxHealth = snapshot.currentMaxHealth;
+        currentMaxMana = snapshot.currentMaxMana;
+        statusEffects.clear();
+        for (int i = 0; i < snapshot.statusEffectCount; i++) {
+            statusEffects.add(new StatusEffect(snapshot.statusEffects[i]));
+        }
+    }
+
+    /** Class whose strategy currently provides abilities (the last class levelled). */
+    public HeroClass getActiveClass() {
+        return activeClass;
+    }
+
+    // Base stats before specialization/hybrid bonuses (what gets persisted)
+    public int getBaseAttack() {
+        return baseAttack;
+    }
+    public int getBaseDefense() {
+        return baseDefense;
+    }
+    public int getBaseMaxHealth() {
+        return maxHealth;
+    }
+    public int getBaseMaxMana() {
+        return maxMana;
+    }
+
+    /**
+     * Restores persisted progression in one step (used by {@link HeroCodec}); the
+     * class levels must already be set with {@link #restoreClassLevel}.
+     * Derived stats are recomputed; combat state is restored separately via
+     * {@link #setCombatState}.
+     */
+    void restoreProgress(int level, int experience, HeroClass activeClass,
+                         HeroClass specializationClass, HeroClass hybridClass,
+                         int baseAttack, int baseDefense, int maxHealth, int maxMana) {
+        this.level = level;
+        this.experience = experience;
+        this.activeClass = activeClass;
+        this.classStrategy = createStrategy(activeClass);
+        this.specializationClass = specializationClass;
+        this.hybridClass = hybridClass;
+        this.baseAttack = baseAttack;
+        this.baseDefense = baseDefense;
+        this.maxHealth = maxHealth;
+        this.maxMana = maxMana;
+        refreshDerivedStats();
+    }
+
+    void restoreClassLevel(HeroClass classType, int classLevel) {
+        classLevels[classType.ordinal()] = classLevel;
+    }
+
+    /** Attaches an observer for damage, death and status events; pass null to detach. */
+    public void setEventListener(HeroEventListener listener) {
+        this.eventListener = listener;
+    }
+
+    public HeroEventListener getEventListener() {
+        return eventListener;
+    }
+
+    /** Links this hero to the battle team that tracks its death; null to unlink. */
+    void joinTeam(BattleTeam team) {
+        this.battleTeam = team;
+    }
+
     // Getters for specialization/hybrid for testing
     public HeroClass getSpecializationClass() {
         return specializationClass;
@@ -8,7 +8,7 @@ import java.util.List;
  * Each concrete class (Order, Chaos, Warrior, Mage) implements this interface
  * and encapsulates its own level-up bonus and available abilities.
  * Hero holds a HeroClassStrategy instance alongside the HeroClass enum key,
- * keeping the type-identity (used in classLevels map) separate from behaviour.
+ * keeping the type-identity (used to index classLevels) separate from behaviour.
  */
 public interface HeroClassStrategy {
 
@@ -18,6 +18,14 @@ public interface HeroClassStrategy {
      */
     void applyLevelBonus(Hero hero);
 
+    /**
+     * Apply {@code levels} levels' worth of bonus at once (bulk level-up).
+     * Must leave the hero as {@code levels} calls to {@link #applyLevelBonus(Hero)} would.
+     */
+    default void applyLevelBonus(Hero hero, int levels) {
+        for (int i = 0; i < levels; i++) applyLevelBonus(hero);
+    }
+
     /**
      * Returns the list of abilities available to this class.
      */
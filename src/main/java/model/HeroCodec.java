@@ -0,0 +1,285 @@
+package model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Versioned, fixed-layout binary codec for {@link Hero} and parties, used by the
+ * persistence layer (SDD M6) to save party state after every room.
+ *
+ * Every hero takes exactly {@link #HERO_BYTES} bytes, whatever its state, so records
+ * can be stored in fixed-size slots and overwritten in place. Layout of format
+ * version 1 (big-endian, offsets in bytes):
+ * <pre>
+ *    0  byte   format version
+ *    1  byte   hero class            (HeroClass ordinal)
+ *    2  byte   active class          (class whose strategy provides abilities)
+ *    3  byte   specialization class  (0xFF = none)
+ *    4  byte   hybrid class          (0xFF = none)
+ *    5  byte   flags                 (bit 0 alive, bit 1 stunned)
+ *    6  byte   name length in chars  (0..NAME_CHARS)
+ *    7  byte   status effect count   (0..MAX_STATUS_EFFECTS)
+ *    8  int    level
+ *   12  int    experience
+ *   16  short  class levels, one per HeroClass (CLASS_SLOTS)
+ *   26  short  reserved
+ *   28  int    base attack, base defense, base max health, base max mana,
+ *              current health, current mana, shield amount
+ *   56  8 x    status effect: byte type, byte reserved, short duration, int magnitude
+ *  120  char   name (NAME_CHARS, zero padded)
+ *  168         reserved up to HERO_BYTES
+ * </pre>
+ * A party is a 4-byte header (version, hero count, 2 reserved bytes) followed by
+ * {@link #MAX_PARTY_SIZE} hero slots; unused slots are zero filled.
+ *
+ * Reserved bytes are always written as zero so later versions can use them without
+ * changing the record size. Decoding rejects unknown versions.
+ * Encoding and decoding work directly on the buffer, without reflection or
+ * intermediate byte arrays; buffers must use {@link ByteOrder#BIG_ENDIAN}
+ * (the ByteBuffer default).
+ */
+public final class HeroCodec {
+
+    /** Current format version written by {@link #encode}. */
+    public static final int VERSION = 1;
+
+    /** Size of one encoded hero. */
+    public static final int HERO_BYTES = 176;
+    /** Maximum number of heroes in a party. */
+    public static final int MAX_PARTY_SIZE = 5;
+    /** Size of one encoded party. */
+    public static final int PARTY_BYTES = 4 + MAX_PARTY_SIZE * HERO_BYTES;
+
+    /** Longest name that fits in a record. */
+    public static final int NAME_CHARS = 24;
+    /** Most status effects that fit in a record. */
+    public static final int MAX_STATUS_EFFECTS = 8;
+
+    private static final int CLASS_SLOTS = 5;
+    private static final int STATUS_BYTES = 8;
+    private static final int NONE = 0xFF;
+    private static final int FLAG_ALIVE = 1;
+    private static final int FLAG_STUNNED = 2;
+    private static final int FIXED_BYTES = 56 + MAX_STATUS_EFFECTS * STATUS_BYTES + NAME_CHARS * 2;
+
+    private static final HeroClass[] CLASSES = HeroClass.values();
+    private static final StatusType[] STATUS_TYPES = StatusType.values();
+
+    static {
+        if (CLASSES.length > CLASS_SLOTS) throw new IllegalStateException("HeroClass outgrew the record layout");
+    }
+
+    private HeroCodec() {}
+
+    // -------------------------------------------------------------------------
+    // Hero
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes {@code hero} at the buffer's position and advances it by {@link #HERO_BYTES}.
+     * @throws IllegalArgumentException if the name, status effect count or a duration
+     *                                  does not fit the layout
+     */
+    public static void encode(Hero hero, ByteBuffer out) {
+        checkOrder(out);
+        String name = hero.getName();
+        List<StatusEffect> effects = hero.getStatusEffects();
+        if (name.length() > NAME_CHARS) {
+            throw new IllegalArgumentException("Hero name longer than " + NAME_CHARS + " chars: " + name);
+        }
+        if (effects.size() > MAX_STATUS_EFFECTS) {
+            throw new IllegalArgumentException("More than " + MAX_STATUS_EFFECTS + " status effects on " + name);
+        }
+        for (StatusEffect effect : effects) {
+            if (effect.getDuration() < Short.MIN_VALUE || effect.getDuration() > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Status effect duration out of range on " + name
+                        + ": " + effect.getDuration());
+            }
+        }
+
+        out.put((byte) VERSION);
+        out.put((byte) hero.getHeroClass().ordinal());
+        out.put((byte) hero.getActiveClass().ordinal());
+        out.put(classByte(hero.getSpecializationClass()));
+        out.put(classByte(hero.getHybridClass()));
+        out.put((byte) ((hero.isAlive() ? FLAG_ALIVE : 0) | (hero.isStunned() ? FLAG_STUNNED : 0)));
+        out.put((byte) name.length());
+        out.put((byte) effects.size());
+
+        out.putInt(hero.getLevel());
+        out.putInt(hero.getExperience());
+        for (int i = 0; i < CLASS_SLOTS; i++) {
+            out.putShort(i < CLASSES.length ? (short) hero.getClassLevel(CLASSES[i]) : 0);
+        }
+        out.putShort((short) 0);
+
+        out.putInt(hero.getBaseAttack());
+        out.putInt(hero.getBaseDefense());
+        out.putInt(hero.getBaseMaxHealth());
+        out.putInt(hero.getBaseMaxMana());
+        out.putInt(hero.getCurrentHealth());
+        out.putInt(hero.getCurrentMana());
+        out.putInt(hero.getShieldAmount());
+
+        for (int i = 0; i < MAX_STATUS_EFFECTS; i++) {
+            if (i < effects.size()) {
+                StatusEffect effect = effects.get(i);
+                out.put((byte) effect.getType().ordinal());
+                out.put((byte) 0);
+                out.putShort((short) effect.getDuration());
+                out.putInt(effect.getMagnitude());
+            } else {
+                out.putLong(0L);
+            }
+        }
+
+        for (int i = 0; i < NAME_CHARS; i++) {
+            out.putChar(i < name.length() ? name.charAt(i) : '\0');
+        }
+        zero(out, HERO_BYTES - FIXED_BYTES);
+    }
+
+    /**
+     * Reads a hero written by {@link #encode} and advances the position by {@link #HERO_BYTES}.
+     * @throws IllegalArgumentException if the record has an unknown version or is corrupt
+     */
+    public static Hero decode(ByteBuffer in) {
+        checkOrder(in);
+        int start = in.position();
+        int version = in.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported hero record version " + version);
+        }
+        HeroClass heroClass = classOf(in.get());
+        HeroClass activeClass = classOf(in.get());
+        HeroClass specialization = optionalClassOf(in.get());
+        HeroClass hybrid = optionalClassOf(in.get());
+        int flags = in.get();
+        int nameLength = in.get() & 0xFF;
+        int effectCount = in.get() & 0xFF;
+        if (nameLength > NAME_CHARS || effectCount > MAX_STATUS_EFFECTS) {
+            throw new IllegalArgumentException("Corrupt hero record at " + start);
+        }
+
+        int level = in.getInt();
+        int experience = in.getInt();
+        // Name is read out of order so the Hero can be constructed first
+        String name = readName(in, start + FIXED_BYTES - NAME_CHARS * 2, nameLength);
+        Hero hero = new Hero(name, heroClass);
+        for (int i = 0; i < CLASS_SLOTS; i++) {
+            int classLevel = in.getShort();
+            if (i < CLASSES.length) hero.restoreClassLevel(CLASSES[i], classLevel);
+        }
+        in.getShort();
+
+        int baseAttack = in.getInt();
+        int baseDefense = in.getInt();
+        int maxHealth = in.getInt();
+        int maxMana = in.getInt();
+        hero.restoreProgress(level, experience, activeClass, specialization, hybrid,
+                baseAttack, baseDefense, maxHealth, maxMana);
+        int currentHealth = in.getInt();
+        int currentMana = in.getInt();
+        int shield = in.getInt();
+
+        List<StatusEffect> effects = effectCount == 0
+                ? Collections.emptyList() : new ArrayList<>(effectCount);
+        for (int i = 0; i < MAX_STATUS_EFFECTS; i++) {
+            if (i < effectCount) {
+                StatusType type = statusOf(in.get());
+                in.get();
+                int duration = in.getShort();
+                effects.add(new StatusEffect(type, duration, in.getInt()));
+            } else {
+                in.getLong();
+            }
+        }
+        hero.setCombatState(currentHealth, currentMana, shield,
+                (flags & FLAG_STUNNED) != 0, (flags & FLAG_ALIVE) != 0, effects);
+        in.position(start + HERO_BYTES);
+        return hero;
+    }
+
+    // -------------------------------------------------------------------------
+    // Party
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes a party of up to {@link #MAX_PARTY_SIZE} heroes and advances the position
+     * by {@link #PARTY_BYTES}.
+     */
+    public static void encodeParty(List<Hero> party, ByteBuffer out) {
+        checkOrder(out);
+        if (party.size() > MAX_PARTY_SIZE) {
+            throw new IllegalArgumentException("A party holds at most " + MAX_PARTY_SIZE + " heroes");
+        }
+        out.put((byte) VERSION);
+        out.put((byte) party.size());
+        out.putShort((short) 0);
+        for (Hero hero : party) encode(hero, out);
+        zero(out, (MAX_PARTY_SIZE - party.size()) * HERO_BYTES);
+    }
+
+    /** Reads a party written by {@link #encodeParty} and advances the position by {@link #PARTY_BYTES}. */
+    public static List<Hero> decodeParty(ByteBuffer in) {
+        checkOrder(in);
+        int start = in.position();
+        int version = in.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported party record version " + version);
+        }
+        int size = in.get() & 0xFF;
+        if (size > MAX_PARTY_SIZE) {
+            throw new IllegalArgumentException("Corrupt party record at " + start);
+        }
+        in.getShort();
+        List<Hero> party = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) party.add(decode(in));
+        in.position(start + PARTY_BYTES);
+        return party;
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private static void checkOrder(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.BIG_ENDIAN) {
+            throw new IllegalArgumentException("HeroCodec buffers must be big-endian");
+        }
+    }
+
+    private static byte classByte(HeroClass heroClass) {
+        return (byte) (heroClass == null ? NONE : heroClass.ordinal());
+    }
+
+    private static HeroClass classOf(byte value) {
+        int ordinal = value & 0xFF;
+        if (ordinal >= CLASSES.length) throw new IllegalArgumentException("Unknown hero class " + ordinal);
+        return CLASSES[ordinal];
+    }
+
+    private static StatusType statusOf(byte value) {
+        int ordinal = value & 0xFF;
+        if (ordinal >= STATUS_TYPES.length) throw new IllegalArgumentException("Unknown status type " + ordinal);
+        return STATUS_TYPES[ordinal];
+    }
+
+    private static HeroClass optionalClassOf(byte value) {
+        return (value & 0xFF) == NONE ? null : classOf(value);
+    }
+
+    private static String readName(ByteBuffer in, int offset, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) chars[i] = in.getChar(offset + 2 * i);
+        return new String(chars);
+    }
+
+    private static void zero(ByteBuffer out, int bytes) {
+        for (; bytes >= Long.BYTES; bytes -= Long.BYTES) out.putLong(0L);
+        for (; bytes > 0; bytes--) out.put((byte) 0);
+    }
+}
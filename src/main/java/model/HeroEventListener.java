@@ -0,0 +1,27 @@
+package model;
+
+/**
+ * Observer for state changes on a {@link Hero} (Observer pattern, SDD DP5).
+ *
+ * A hero holds at most one listener. Callbacks run synchronously on the thread
+ * that mutated the hero, so implementations must be cheap and must not mutate
+ * the hero themselves.
+ */
+public interface HeroEventListener {
+
+    /**
+     * Called after the hero took damage.
+     * @param damage   HP actually lost (after shield absorption; may be 0)
+     * @param absorbed Damage soaked up by the hero's shield
+     */
+    void onDamageTaken(Hero hero, int damage, int absorbed);
+
+    /** Called once when the hero's HP reaches zero. */
+    void onDeath(Hero hero);
+
+    /** Called after a status effect has been added to the hero. */
+    void onStatusApplied(Hero hero, StatusType type);
+
+    /** Called after a status effect on the hero has expired and been removed. */
+    void onStatusExpired(Hero hero, StatusType type);
+}
@@ -0,0 +1,57 @@
+package model;
+
+/**
+ * Saved copy of all mutable {@link Hero} state: level and experience, class levels,
+ * specialization/hybrid, base and derived stats, HP/mana/shield, stun/alive flags
+ * and status effects (with their remaining durations).
+ *
+ * Taken with {@link Hero#snapshot()} and rolled back with {@link Hero#restore}.
+ * A snapshot is not changed by restoring it, so the same snapshot can be restored
+ * any number of times, and {@link Hero#snapshot(HeroSnapshot)} can refill an existing
+ * snapshot so a lookahead loop does not allocate one per step.
+ */
+public class HeroSnapshot {
+    private static final StatusEffect[] NO_EFFECTS = new StatusEffect[0];
+
+    // Filled by Hero.snapshot(HeroSnapshot); read by Hero.restore(HeroSnapshot)
+    int level;
+    int experience;
+    boolean stunned;
+    boolean alive;
+    final int[] classLevels = new int[HeroClass.values().length];
+    HeroClass specializationClass;
+    HeroClass hybridClass;
+    HeroClass activeClass;
+    HeroClassStrategy classStrategy;
+    int baseAttack;
+    int baseDefense;
+    int maxHealth;
+    int currentHealth;
+    int maxMana;
+    int currentMana;
+    int shieldAmount;
+    int currentAttack;
+    int currentDefense;
+    int currentMaxHealth;
+    int currentMaxMana;
+    StatusEffect[] statusEffects = NO_EFFECTS; // Private copies, never handed to a hero
+    int statusEffectCount;
+
+    /** Creates an empty snapshot to be filled by {@link Hero#snapshot(HeroSnapshot)}. */
+    public HeroSnapshot() {}
+
+    /** Level at the time of the snapshot. */
+    public int getLevel() {
+        return level;
+    }
+
+    /** HP at the time of the snapshot. */
+    public int getCurrentHealth() {
+        return currentHealth;
+    }
+
+    /** Whether the hero was alive at the time of the snapshot. */
+    public boolean isAlive() {
+        return alive;
+    }
+}
@@ -0,0 +1,72 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A battle fought on copies of two parties (copy-on-write), for previews, what-if
+ * simulations and AI lookahead.
+ *
+ * The caller's heroes are not touched while the battle runs; {@link #getResult()}
+ * refers to the copies. {@link #commit()} writes the copies' final state back onto
+ * the original heroes in one step; simply dropping the battle discards it.
+ */
+public class IsolatedBattle {
+    private final List<Hero> originalsA;
+    private final List<Hero> originalsB;
+    private final List<Hero> copiesA;
+    private final List<Hero> copiesB;
+    private BattleResult result;
+    private boolean committed;
+
+    /** Copies both teams; run the battle on {@link #getTeamA()} / {@link #getTeamB()}. */
+    public IsolatedBattle(List<Hero> teamA, List<Hero> teamB) {
+        this.originalsA = new ArrayList<>(teamA);
+        this.originalsB = new ArrayList<>(teamB);
+        this.copiesA = copyOf(teamA);
+        this.copiesB = copyOf(teamB);
+    }
+
+    /** Copy of team A, in the original order. */
+    public List<Hero> getTeamA() {
+        return Collections.unmodifiableList(copiesA);
+    }
+
+    /** Copy of team B, in the original order. */
+    public List<Hero> getTeamB() {
+        return Collections.unmodifiableList(copiesB);
+    }
+
+    /** Result of the battle on the copies, or null before it was fought. */
+    public BattleResult getResult() {
+        return result;
+    }
+
+    public void setResult(BattleResult result) {
+        this.result = result;
+    }
+
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    /**
+     * Applies the copies' state (HP, mana, shield, status effects, and any progression)
+     * to the original heroes.
+     * @throws IllegalStateException if already committed
+     */
+    public void commit() {
+        if (committed) throw new IllegalStateException("Battle already committed");
+        HeroSnapshot scratch = new HeroSnapshot();
+        for (int i = 0; i < copiesA.size(); i++) originalsA.get(i).restore(copiesA.get(i).snapshot(scratch));
+        for (int i = 0; i < copiesB.size(); i++) originalsB.get(i).restore(copiesB.get(i).snapshot(scratch));
+        committed = true;
+    }
+
+    private static List<Hero> copyOf(List<Hero> team) {
+        List<Hero> copies = new ArrayList<>(team.size());
+        for (Hero hero : team) copies.add(new Hero(hero));
+        return copies;
+    }
+}
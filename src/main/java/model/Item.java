@@ -0,0 +1,50 @@
+package model;
+
+/**
+ * Items sold in the inn shop (UC7): food restores HP, drinks restore mana and the
+ * Elixir revives and fully restores a hero.
+ */
+public enum Item {
+    BREAD(200, 20, 0),
+    CHEESE(500, 50, 0),
+    STEAK(1000, 200, 0),
+    WATER(150, 0, 10),
+    JUICE(400, 0, 30),
+    WINE(750, 0, 100),
+    ELIXIR(2000, 0, 0);
+
+    private final int price;
+    private final int health;
+    private final int mana;
+
+    Item(int price, int health, int mana) {
+        this.price = price;
+        this.health = health;
+        this.mana = mana;
+    }
+
+    /** Price in gold. */
+    public int getPrice() {
+        return price;
+    }
+
+    /** HP restored (capped at the hero's max health). */
+    public int getHealth() {
+        return health;
+    }
+
+    /** Mana restored (capped at the hero's max mana). */
+    public int getMana() {
+        return mana;
+    }
+
+    /** True for the Elixir, which revives and fully restores the hero. */
+    public boolean isRevive() {
+        return this == ELIXIR;
+    }
+
+    /** Score earned by buying the item: half its price, times 10. */
+    public long getScorePoints() {
+        return price / 2 * 10L;
+    }
+}
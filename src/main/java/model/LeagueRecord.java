@@ -0,0 +1,32 @@
+package model;
+
+/**
+ * A player's PvP win/loss record in the league table.
+ */
+public class LeagueRecord {
+    private final String player;
+    private final int wins;
+    private final int losses;
+
+    public LeagueRecord(String player, int wins, int losses) {
+        this.player = player;
+        this.wins = wins;
+        this.losses = losses;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public int getGamesPlayed() {
+        return wins + losses;
+    }
+}
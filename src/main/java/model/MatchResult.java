@@ -0,0 +1,53 @@
+package model;
+
+/**
+ * Outcome of one tournament match.
+ */
+public class MatchResult {
+    private final int round;
+    private final TournamentEntry first;
+    private final TournamentEntry second;
+    private final TournamentEntry winner; // null for a draw
+    private final int battleRounds;
+
+    public MatchResult(int round, TournamentEntry first, TournamentEntry second, TournamentEntry winner, int battleRounds) {
+        this.round = round;
+        this.first = first;
+        this.second = second;
+        this.winner = winner;
+        this.battleRounds = battleRounds;
+    }
+
+    /** Tournament round the match was scheduled in (0-based). */
+    public int getRound() {
+        return round;
+    }
+
+    public TournamentEntry getFirst() {
+        return first;
+    }
+
+    public TournamentEntry getSecond() {
+        return second;
+    }
+
+    /** The winning entry, or null for a draw. */
+    public TournamentEntry getWinner() {
+        return winner;
+    }
+
+    /** The losing entry, or null for a draw. */
+    public TournamentEntry getLoser() {
+        if (winner == null) return null;
+        return winner == first ? second : first;
+    }
+
+    public boolean isDraw() {
+        return winner == null;
+    }
+
+    /** Number of rounds the battle lasted. */
+    public int getBattleRounds() {
+        return battleRounds;
+    }
+}
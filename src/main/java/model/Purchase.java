@@ -0,0 +1,22 @@
+package model;
+
+/**
+ * One line of an inn shopping basket: an item and the hero it is used on.
+ */
+public class Purchase {
+    private final Item item;
+    private final Hero target;
+
+    public Purchase(Item item, Hero target) {
+        this.item = item;
+        this.target = target;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    public Hero getTarget() {
+        return target;
+    }
+}
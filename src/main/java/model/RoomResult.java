@@ -0,0 +1,59 @@
+package model;
+
+/**
+ * Outcome of entering one campaign room, including how long it took to process.
+ */
+public class RoomResult {
+    private final int room;
+    private final RoomType type;
+    private final BattleResult battleResult; // null for inns
+    private final boolean won;
+    private final int experienceGained;
+    private final long goldChange;
+    private final long elapsedNanos;
+
+    public RoomResult(int room, RoomType type, BattleResult battleResult, boolean won,
+                      int experienceGained, long goldChange, long elapsedNanos) {
+        this.room = room;
+        this.type = type;
+        this.battleResult = battleResult;
+        this.won = won;
+        this.experienceGained = experienceGained;
+        this.goldChange = goldChange;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** Room index, from 0 to {@link Campaign#ROOMS} - 1. */
+    public int getRoom() {
+        return room;
+    }
+
+    public RoomType getType() {
+        return type;
+    }
+
+    /** Result of the room's battle, or null for an inn. */
+    public BattleResult getBattleResult() {
+        return battleResult;
+    }
+
+    /** True if the room was a battle the party won. */
+    public boolean isWon() {
+        return won;
+    }
+
+    /** Total experience shared among the surviving heroes. */
+    public int getExperienceGained() {
+        return experienceGained;
+    }
+
+    /** Gold gained (positive) or lost (negative) in this room. */
+    public long getGoldChange() {
+        return goldChange;
+    }
+
+    /** Wall-clock time spent processing the room, including enemy generation and the battle. */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,9 @@
+package model;
+
+/**
+ * What a campaign room turned out to contain.
+ */
+public enum RoomType {
+    BATTLE,
+    INN
+}
@@ -0,0 +1,24 @@
+package model;
+
+/**
+ * Derivation of independent sub-seeds from one master seed, shared by everything
+ * that must replay identically from a seed (campaign rooms, simulation runs,
+ * tournament matches).
+ *
+ * Sub-seed {@code i} depends only on the master seed and {@code i}, never on the
+ * order or thread in which sub-seeds are taken, so parallel work stays reproducible.
+ */
+public final class Seeds {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private Seeds() {}
+
+    /** Sub-seed {@code index} of {@code seed} (MurmurHash3 finalizer over a Weyl step). */
+    public static long derive(long seed, int index) {
+        long z = seed + (index + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
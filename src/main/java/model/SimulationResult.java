@@ -0,0 +1,69 @@
+package model;
+
+/**
+ * Aggregated statistics from running the same match-up many times.
+ * Produced by {@code BattleSimulationService}; all rates are in the range [0, 1].
+ */
+public class SimulationResult {
+    private final int iterations;
+    private final long teamAWins;
+    private final long teamBWins;
+    private final long draws;
+    private final long totalRounds;
+    private final long[] teamASurvivals; // Indexed like the team A template list
+    private final long[] teamBSurvivals; // Indexed like the team B template list
+
+    public SimulationResult(int iterations, long teamAWins, long teamBWins, long draws,
+                            long totalRounds, long[] teamASurvivals, long[] teamBSurvivals) {
+        this.iterations = iterations;
+        this.teamAWins = teamAWins;
+        this.teamBWins = teamBWins;
+        this.draws = draws;
+        this.totalRounds = totalRounds;
+        this.teamASurvivals = teamASurvivals.clone();
+        this.teamBSurvivals = teamBSurvivals.clone();
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getTeamAWins() {
+        return teamAWins;
+    }
+
+    public long getTeamBWins() {
+        return teamBWins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public double getTeamAWinRate() {
+        return (double) teamAWins / iterations;
+    }
+
+    public double getTeamBWinRate() {
+        return (double) teamBWins / iterations;
+    }
+
+    public double getDrawRate() {
+        return (double) draws / iterations;
+    }
+
+    /** Mean number of rounds per battle, including the rounds of drawn battles. */
+    public double getMeanRounds() {
+        return (double) totalRounds / iterations;
+    }
+
+    /** Fraction of battles in which the team A hero at {@code index} was still alive at the end. */
+    public double getTeamASurvivalRate(int index) {
+        return (double) teamASurvivals[index] / iterations;
+    }
+
+    /** Fraction of battles in which the team B hero at {@code index} was still alive at the end. */
+    public double getTeamBSurvivalRate(int index) {
+        return (double) teamBSurvivals[index] / iterations;
+    }
+}
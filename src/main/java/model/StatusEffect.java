@@ -15,6 +15,11 @@ public class StatusEffect {
         this.magnitude = magnitude;
     }
 
+    /** Copy constructor: duplicates the remaining duration without re-applying the effect. */
+    public StatusEffect(StatusEffect other) {
+        this(other.type, other.duration, other.magnitude);
+    }
+
     public void apply(Hero hero) {
         switch (type) {
             case STUN:
@@ -42,6 +47,10 @@ public class StatusEffect {
         return duration <= 0;
     }
 
+    public int getDuration() {
+        return duration;
+    }
+
     public StatusType getType() {
         return type;
     }
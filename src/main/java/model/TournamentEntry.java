@@ -0,0 +1,43 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A saved party entered in a PvP tournament: the player, the save slot and a copy
+ * of the party taken when the entry is created.
+ */
+public class TournamentEntry {
+    private final String player;
+    private final int slot;
+    private final List<Hero> party;
+
+    /** Copies {@code party}, so later changes to the saved heroes do not affect the entry. */
+    public TournamentEntry(String player, int slot, List<Hero> party) {
+        if (party.isEmpty()) throw new IllegalArgumentException("A tournament party needs at least one hero");
+        this.player = player;
+        this.slot = slot;
+        List<Hero> copy = new ArrayList<>(party.size());
+        for (Hero hero : party) copy.add(new Hero(hero));
+        this.party = Collections.unmodifiableList(copy);
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    /** The entry's heroes; battles are fought on copies, so these never change. */
+    public List<Hero> getParty() {
+        return party;
+    }
+
+    @Override
+    public String toString() {
+        return player + "#" + slot;
+    }
+}
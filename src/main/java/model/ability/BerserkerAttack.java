@@ -5,9 +5,8 @@ import model.Hero;
 import model.StatusEffect;
 import model.StatusType;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Warrior ability — Berserker Attack.
@@ -24,9 +23,15 @@ import java.util.Random;
  */
 public class BerserkerAttack extends Ability {
 
+    /** Shared Warrior instance. */
+    public static final BerserkerAttack STANDARD = new BerserkerAttack();
+    /** Shared Knight (Warrior+Warrior) instance. */
+    public static final BerserkerAttack KNIGHT = new BerserkerAttack(true, false);
+    /** Shared Paladin (Order+Warrior) instance. */
+    public static final BerserkerAttack PALADIN = new BerserkerAttack(false, true);
+
     private final boolean stunSplash;
     private final boolean healBeforeAttack;
-    private final Random random;
 
     /** Standard Warrior version. */
     public BerserkerAttack() {
@@ -41,11 +46,18 @@ public class BerserkerAttack extends Ability {
         super("Berserker Attack", 60);
         this.stunSplash = stunSplash;
         this.healBeforeAttack = healBeforeAttack;
-        this.random = new Random();
+    }
+
+    public boolean isStunSplash() {
+        return stunSplash;
+    }
+
+    public boolean isHealBeforeAttack() {
+        return healBeforeAttack;
     }
 
     @Override
-    public void execute(Hero caster, List<Hero> targets) {
+    public void execute(Hero caster, List<Hero> targets, RandomGenerator random) {
         if (targets.isEmpty()) return;
 
         // Paladin pre-attack heal
@@ -54,23 +66,20 @@ public class BerserkerAttack extends Ability {
             caster.heal(healAmount);
         }
 
-        // Filter alive targets
-        List<Hero> alive = new ArrayList<>();
-        for (Hero t : targets) {
-            if (t.isAlive()) alive.add(t);
-        }
-        if (alive.isEmpty()) return;
-
-        // Primary target: full damage
-        Hero primary = alive.get(0);
+        // Primary target: first alive unit, full damage
+        int i = 0;
+        while (i < targets.size() && !targets.get(i).isAlive()) i++;
+        if (i == targets.size()) return;
+        Hero primary = targets.get(i);
         int primaryDamage = Math.max(0, caster.getCurrentAttack() - primary.getCurrentDefense());
         primary.takeDamage(primaryDamage);
 
-        // Splash: up to 2 additional targets for 25% of primary damage
+        // Splash: up to 2 additional alive targets (after the primary) for 25% of primary damage
         int splashDamage = (int) (primaryDamage * 0.25);
         int splashCount = 0;
-        for (int i = 1; i < alive.size() && splashCount < 2; i++) {
-            Hero splashTarget = alive.get(i);
+        for (i++; i < targets.size() && splashCount < 2; i++) {
+            Hero splashTarget = targets.get(i);
+            if (!splashTarget.isAlive()) continue;
             splashTarget.takeDamage(splashDamage);
             // Knight: 50% chance to stun each splash target
             if (stunSplash && random.nextDouble() < 0.50) {
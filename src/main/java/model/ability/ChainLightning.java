@@ -3,9 +3,8 @@ package model.ability;
 import model.Ability;
 import model.Hero;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Chaos ability — Chain Lightning.
@@ -19,6 +18,11 @@ import java.util.List;
  */
 public class ChainLightning extends Ability {
 
+    /** Shared Chaos instance. */
+    public static final ChainLightning STANDARD = new ChainLightning();
+    /** Shared Invoker (Chaos+Chaos) instance. */
+    public static final ChainLightning INVOKER = new ChainLightning(true);
+
     private final boolean improvedChain;
 
     /** Standard Chaos version (25% carry-over). */
@@ -32,34 +36,47 @@ public class ChainLightning extends Ability {
         this.improvedChain = improvedChain;
     }
 
+    public boolean isImprovedChain() {
+        return improvedChain;
+    }
+
     @Override
-    public void execute(Hero caster, List<Hero> targets) {
+    public void execute(Hero caster, List<Hero> targets, RandomGenerator random) {
         if (targets.isEmpty()) return;
 
         // Build the hit order: first target is the chosen one, rest are shuffled
-        List<Hero> alive = new ArrayList<>();
-        for (Hero t : targets) {
-            if (t.isAlive()) alive.add(t);
+        Hero[] hitOrder = new Hero[targets.size()];
+        int alive = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            Hero t = targets.get(i);
+            if (t.isAlive()) hitOrder[alive++] = t;
         }
-        if (alive.isEmpty()) return;
-
-        Hero primaryTarget = alive.get(0);
-        List<Hero> rest = new ArrayList<>(alive.subList(1, alive.size()));
-        Collections.shuffle(rest);
-
-        List<Hero> hitOrder = new ArrayList<>();
-        hitOrder.add(primaryTarget);
-        hitOrder.addAll(rest);
+        if (alive == 0) return;
+        shuffleAfterFirst(hitOrder, alive, random);
 
+        Hero primaryTarget = hitOrder[0];
         double carryOver = improvedChain ? 0.50 : 0.25;
         int baseDamage = Math.max(0, caster.getCurrentAttack() - primaryTarget.getCurrentDefense());
         double currentDamage = baseDamage;
 
-        for (Hero target : hitOrder) {
+        for (int i = 0; i < alive; i++) {
             int damage = (int) currentDamage;
-            target.takeDamage(damage);
+            hitOrder[i].takeDamage(damage);
             currentDamage *= carryOver;
             if (currentDamage < 1) break; // No point continuing below 1 damage
         }
     }
+
+    /**
+     * Fisher-Yates shuffle of {@code units[1..count-1]}, drawing in the same order
+     * as Collections.shuffle over that sub-range.
+     */
+    private static void shuffleAfterFirst(Hero[] units, int count, RandomGenerator random) {
+        for (int i = count - 1; i > 1; i--) {
+            int j = 1 + random.nextInt(i);
+            Hero tmp = units[i];
+            units[i] = units[j];
+            units[j] = tmp;
+        }
+    }
 }
@@ -3,9 +3,8 @@ package model.ability;
 import model.Ability;
 import model.Hero;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Chaos ability — Fireball.
@@ -20,6 +19,12 @@ import java.util.List;
 public class Fireball extends Ability {
 
     private static final int MAX_TARGETS = 3;
+
+    /** Shared Chaos instance. */
+    public static final Fireball STANDARD = new Fireball();
+    /** Shared Sorcerer (Mage+Chaos hybrid) instance. */
+    public static final Fireball SORCERER = new Fireball(true);
+
     private final boolean doubleDamage;
 
     /** Standard Chaos version. */
@@ -33,18 +38,20 @@ public class Fireball extends Ability {
         this.doubleDamage = doubleDamage;
     }
 
-    @Override
-    public void execute(Hero caster, List<Hero> targets) {
-        List<Hero> alive = new ArrayList<>();
-        for (Hero t : targets) {
-            if (t.isAlive()) alive.add(t);
-        }
-        if (alive.isEmpty()) return;
+    public boolean isDoubleDamage() {
+        return doubleDamage;
+    }
 
-        // Hit up to MAX_TARGETS enemies; first target is the chosen primary
-        int hits = Math.min(MAX_TARGETS, alive.size());
-        for (int i = 0; i < hits; i++) {
-            Hero target = alive.get(i);
+    @Override
+    public void execute(Hero caster, List<Hero> targets, RandomGenerator random) {
+        // Hit up to MAX_TARGETS alive enemies in order; first target is the chosen primary.
+        // Only already-hit targets can die during the loop, so skipping the dead as we
+        // go hits the same units as filtering the alive ones up front.
+        int hits = 0;
+        for (int i = 0; i < targets.size() && hits < MAX_TARGETS; i++) {
+            Hero target = targets.get(i);
+            if (!target.isAlive()) continue;
+            hits++;
             int rawDamage = Math.max(0, caster.getCurrentAttack() - target.getCurrentDefense());
             int damage = doubleDamage ? rawDamage * 2 : rawDamage;
             target.takeDamage(damage);
@@ -4,6 +4,7 @@ import model.Ability;
 import model.Hero;
 
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Order ability — Heal.
@@ -15,6 +16,11 @@ import java.util.List;
  */
 public class Heal extends Ability {
 
+    /** Shared Order instance. */
+    public static final Heal STANDARD = new Heal();
+    /** Shared Priest (Order+Order) instance. */
+    public static final Heal PRIEST = new Heal(true);
+
     private final boolean healAll;
 
     /** Standard Order version — heals the lowest HP ally. */
@@ -28,8 +34,12 @@ public class Heal extends Ability {
         this.healAll = healAll;
     }
 
+    public boolean isHealAll() {
+        return healAll;
+    }
+
     @Override
-    public void execute(Hero caster, List<Hero> targets) {
+    public void execute(Hero caster, List<Hero> targets, RandomGenerator random) {
         if (targets.isEmpty()) return;
 
         if (healAll) {
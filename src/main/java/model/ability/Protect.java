@@ -6,6 +6,7 @@ import model.StatusEffect;
 import model.StatusType;
 
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Order ability — Protect.
@@ -16,12 +17,15 @@ import java.util.List;
  */
 public class Protect extends Ability {
 
+    /** Shared Order instance. */
+    public static final Protect STANDARD = new Protect();
+
     public Protect() {
         super("Protect", 25);
     }
 
     @Override
-    public void execute(Hero caster, List<Hero> targets) {
+    public void execute(Hero caster, List<Hero> targets, RandomGenerator random) {
         for (Hero ally : targets) {
             if (ally.isAlive()) {
                 int shieldAmount = (int) (ally.getCurrentMaxHealth() * 0.10);
@@ -4,6 +4,7 @@ import model.Ability;
 import model.Hero;
 
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Mage ability — Replenish.
@@ -21,6 +22,13 @@ import java.util.List;
  */
 public class Replenish extends Ability {
 
+    /** Shared Mage instance. */
+    public static final Replenish STANDARD = new Replenish();
+    /** Shared Wizard (Mage+Mage) instance. */
+    public static final Replenish WIZARD = new Replenish(true, false);
+    /** Shared Prophet (Order+Mage) instance. */
+    public static final Replenish PROPHET = new Replenish(false, true);
+
     private final boolean doubleEffect;
 
     /** Standard Mage version. */
@@ -37,8 +45,12 @@ public class Replenish extends Ability {
         this.doubleEffect = doubleEffect;
     }
 
+    public boolean isDoubleEffect() {
+        return doubleEffect;
+    }
+
     @Override
-    public void execute(Hero caster, List<Hero> targets) {
+    public void execute(Hero caster, List<Hero> targets, RandomGenerator random) {
         int alliesAmount = doubleEffect ? 60 : 30;
         int selfAmount   = doubleEffect ? 120 : 60;
 
@@ -6,7 +6,6 @@ import model.HeroClassStrategy;
 import model.ability.ChainLightning;
 import model.ability.Fireball;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -17,15 +16,25 @@ import java.util.List;
  */
 public class ChaosStrategy implements HeroClassStrategy {
 
+    /** Shared stateless instance used by Hero. */
+    public static final ChaosStrategy INSTANCE = new ChaosStrategy();
+
+    private static final List<Ability> ABILITIES = List.of(Fireball.STANDARD, ChainLightning.STANDARD);
+
     @Override
     public void applyLevelBonus(Hero hero) {
-        hero.addBaseAttack(3);
-        hero.addMaxHealth(5);
+        applyLevelBonus(hero, 1);
+    }
+
+    @Override
+    public void applyLevelBonus(Hero hero, int levels) {
+        hero.addBaseAttack(3 * levels);
+        hero.addMaxHealth(5 * levels);
     }
 
     @Override
     public List<Ability> getAbilities() {
-        return Arrays.asList(new Fireball(), new ChainLightning());
+        return ABILITIES;
     }
 
     @Override
@@ -0,0 +1,33 @@
+package model.heroclass;
+
+import model.Ability;
+import model.Hero;
+import model.HeroClassStrategy;
+
+import java.util.List;
+
+/**
+ * Strategy for PvE enemy units.
+ * Enemies have no special abilities or spells: they can only attack, defend or wait.
+ * Their stats are set when they are generated, so levelling adds no class bonus.
+ */
+public class EnemyStrategy implements HeroClassStrategy {
+
+    /** Shared stateless instance used by Hero. */
+    public static final EnemyStrategy INSTANCE = new EnemyStrategy();
+
+    @Override
+    public void applyLevelBonus(Hero hero) {
+        // No class bonus
+    }
+
+    @Override
+    public List<Ability> getAbilities() {
+        return List.of();
+    }
+
+    @Override
+    public String getClassName() {
+        return "Enemy";
+    }
+}
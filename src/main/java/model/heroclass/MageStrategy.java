@@ -5,7 +5,6 @@ import model.Hero;
 import model.HeroClassStrategy;
 import model.ability.Replenish;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -16,15 +15,25 @@ import java.util.List;
  */
 public class MageStrategy implements HeroClassStrategy {
 
+    /** Shared stateless instance used by Hero. */
+    public static final MageStrategy INSTANCE = new MageStrategy();
+
+    private static final List<Ability> ABILITIES = List.of(Replenish.STANDARD);
+
     @Override
     public void applyLevelBonus(Hero hero) {
-        hero.addMaxMana(5);
-        hero.addBaseAttack(1);
+        applyLevelBonus(hero, 1);
+    }
+
+    @Override
+    public void applyLevelBonus(Hero hero, int levels) {
+        hero.addMaxMana(5 * levels);
+        hero.addBaseAttack(1 * levels);
     }
 
     @Override
     public List<Ability> getAbilities() {
-        return Arrays.asList(new Replenish());
+        return ABILITIES;
     }
 
     @Override
@@ -6,7 +6,6 @@ import model.HeroClassStrategy;
 import model.ability.Heal;
 import model.ability.Protect;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -17,15 +16,25 @@ import java.util.List;
  */
 public class OrderStrategy implements HeroClassStrategy {
 
+    /** Shared stateless instance used by Hero. */
+    public static final OrderStrategy INSTANCE = new OrderStrategy();
+
+    private static final List<Ability> ABILITIES = List.of(Protect.STANDARD, Heal.STANDARD);
+
     @Override
     public void applyLevelBonus(Hero hero) {
-        hero.addMaxMana(5);
-        hero.addBaseDefense(2);
+        applyLevelBonus(hero, 1);
+    }
+
+    @Override
+    public void applyLevelBonus(Hero hero, int levels) {
+        hero.addMaxMana(5 * levels);
+        hero.addBaseDefense(2 * levels);
     }
 
     @Override
     public List<Ability> getAbilities() {
-        return Arrays.asList(new Protect(), new Heal());
+        return ABILITIES;
     }
 
     @Override
@@ -5,7 +5,6 @@ import model.Hero;
 import model.HeroClassStrategy;
 import model.ability.BerserkerAttack;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -16,15 +15,25 @@ import java.util.List;
  */
 public class WarriorStrategy implements HeroClassStrategy {
 
+    /** Shared stateless instance used by Hero. */
+    public static final WarriorStrategy INSTANCE = new WarriorStrategy();
+
+    private static final List<Ability> ABILITIES = List.of(BerserkerAttack.STANDARD);
+
     @Override
     public void applyLevelBonus(Hero hero) {
-        hero.addBaseAttack(2);
-        hero.addBaseDefense(3);
+        applyLevelBonus(hero, 1);
+    }
+
+    @Override
+    public void applyLevelBonus(Hero hero, int levels) {
+        hero.addBaseAttack(2 * levels);
+        hero.addBaseDefense(3 * levels);
     }
 
     @Override
     public List<Ability> getAbilities() {
-        return Arrays.asList(new BerserkerAttack());
+        return ABILITIES;
     }
 
     @Override
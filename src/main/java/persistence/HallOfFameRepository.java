@@ -0,0 +1,15 @@
+package persistence;
+
+import model.HallOfFameEntry;
+import java.util.List;
+
+/**
+ * Repository for final campaign scores (SDD M6).
+ */
+public interface HallOfFameRepository {
+    /** Stores a final score. */
+    void add(HallOfFameEntry entry);
+
+    /** The {@code limit} highest scores, highest first. */
+    List<HallOfFameEntry> top(int limit);
+}
@@ -0,0 +1,18 @@
+package persistence;
+
+import model.LeagueRecord;
+import java.util.List;
+
+/**
+ * Repository for the PvP league table (SDD M6).
+ */
+public interface LeagueRepository {
+    /** Adds a win for {@code winner} and a loss for {@code loser}, creating records as needed. */
+    void recordResult(String winner, String loser);
+
+    /** The player's record; a player who never played has 0 wins and 0 losses. */
+    LeagueRecord find(String player);
+
+    /** All records, most wins first (ties: fewer losses first, then by name). */
+    List<LeagueRecord> standings();
+}
@@ -0,0 +1,40 @@
+package persistence;
+
+import java.util.Objects;
+
+/** Identifies one saved party: a player's name and one of their party slots. */
+public final class PartyKey {
+    private final String player;
+    private final int slot;
+
+    public PartyKey(String player, int slot) {
+        this.player = Objects.requireNonNull(player, "player");
+        this.slot = slot;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PartyKey)) return false;
+        PartyKey other = (PartyKey) o;
+        return slot == other.slot && player.equals(other.player);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * player.hashCode() + slot;
+    }
+
+    @Override
+    public String toString() {
+        return player + "#" + slot;
+    }
+}
@@ -0,0 +1,43 @@
+package persistence;
+
+import model.Hero;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repository for saved parties (SDD M6, DP6).
+ * A player may save up to {@link #MAX_SAVED_PARTIES} parties, addressed by slot
+ * {@code 0..MAX_SAVED_PARTIES-1}. Loaded heroes are fresh copies; saving a party
+ * again replaces whatever was in that slot.
+ */
+public interface PartyRepository {
+
+    /** Number of party slots per player. */
+    int MAX_SAVED_PARTIES = 5;
+
+    /**
+     * Saves {@code party} into the player's slot, replacing any party already there.
+     * @throws IllegalArgumentException if the slot is out of range or the party does not fit
+     */
+    void save(String player, int slot, List<Hero> party);
+
+    /** Loads the party saved in the player's slot, if any. */
+    Optional<List<Hero>> load(String player, int slot);
+
+    /** Loads all of the player's saved parties, in slot order (empty slots are skipped). */
+    List<List<Hero>> loadAll(String player);
+
+    /** Deletes the party in the player's slot; returns false if the slot was empty. */
+    boolean delete(String player, int slot);
+
+    /**
+     * Saves several parties at once. Implementations that can should make the whole
+     * batch durable in one write; the default simply saves them one by one.
+     */
+    default void saveAll(Map<PartyKey, List<Hero>> parties) {
+        for (Map.Entry<PartyKey, List<Hero>> entry : parties.entrySet()) {
+            save(entry.getKey().getPlayer(), entry.getKey().getSlot(), entry.getValue());
+        }
+    }
+}
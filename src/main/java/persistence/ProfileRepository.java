@@ -0,0 +1,31 @@
+package persistence;
+
+import model.Hero;
+import java.util.Optional;
+
+/**
+ * Repository for persisted hero profiles (SDD M6, DP6).
+ * Every stored hero gets a stable id that is never reused, even after deletion.
+ */
+public interface ProfileRepository {
+    /**
+     * Stores a new hero.
+     * @return The id assigned to the hero
+     */
+    long create(Hero hero);
+
+    /**
+     * Overwrites the stored state of an existing hero.
+     * @throws IllegalArgumentException if no hero is stored under {@code id}
+     */
+    void update(long id, Hero hero);
+
+    /** Loads a fresh copy of the hero stored under {@code id}, if any. */
+    Optional<Hero> find(long id);
+
+    /** Deletes the hero stored under {@code id}; returns false if there was none. */
+    boolean delete(long id);
+
+    /** Number of stored heroes. */
+    int count();
+}
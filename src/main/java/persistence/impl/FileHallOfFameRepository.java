@@ -0,0 +1,239 @@
+package persistence.impl;
+
+import model.HallOfFameEntry;
+import persistence.HallOfFameRepository;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hall of fame that keeps only the {@code capacity} best scores, backed by an
+ * append-only file.
+ *
+ * The top scores live in an immutable sorted array that is replaced on every
+ * accepted score, so {@link #top(int)} never blocks and memory stays at
+ * {@code capacity} entries however many campaigns finish. A score that does not
+ * beat the current lowest of a full table is rejected without taking the lock,
+ * which is what almost every submission does once the table has filled up.
+ *
+ * An accepted score is appended to the file first and only then published to
+ * readers, so a score that could not be written is never visible.
+ * Records are fixed-size:
+ * <pre>
+ *   long   score
+ *   short  name length in chars
+ *   char   name (PLAYER_NAME_CHARS, zero padded)
+ * </pre>
+ * Once the file holds {@code COMPACT_FACTOR * capacity} records it is rewritten
+ * with just the current table (written to a temporary file, then moved over the
+ * old one), so the file is bounded too. On open the file is read record by record
+ * into the table and a torn last record is ignored.
+ */
+public class FileHallOfFameRepository implements HallOfFameRepository, Closeable {
+
+    public static final int PLAYER_NAME_CHARS = MappedPartyRepository.PLAYER_NAME_CHARS;
+
+    static final int COMPACT_FACTOR = 4;
+    private static final int RECORD_BYTES = Long.BYTES + Short.BYTES + 2 * PLAYER_NAME_CHARS;
+
+    private final Path path;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock(); // Not a monitor: writers block on file I/O
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES); // Guarded by lock
+
+    private volatile HallOfFameEntry[] table = new HallOfFameEntry[0]; // Highest first; replaced, never mutated
+    private FileChannel file;     // Guarded by lock
+    private long fileRecords;     // Guarded by lock
+
+    /** Keeps the 100 best scores. */
+    public FileHallOfFameRepository(Path path) {
+        this(path, 100);
+    }
+
+    /** @param capacity Number of best scores kept */
+    public FileHallOfFameRepository(Path path, int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.path = path;
+        this.capacity = capacity;
+        try {
+            this.file = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            load();
+            if (fileRecords > table.length) compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // HallOfFameRepository
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void add(HallOfFameEntry entry) {
+        offer(entry);
+    }
+
+    /**
+     * Adds the score if it makes the table.
+     * @return true if it was kept, false if it did not beat the lowest kept score
+     * @throws IllegalArgumentException if the player name is too long for a record
+     */
+    public boolean offer(HallOfFameEntry entry) {
+        if (entry.getPlayer().length() > PLAYER_NAME_CHARS) {
+            throw new IllegalArgumentException("Player name longer than " + PLAYER_NAME_CHARS + " chars: " + entry.getPlayer());
+        }
+        if (!qualifies(table, entry.getScore())) return false; // Lock-free fast path
+        lock.lock();
+        try {
+            HallOfFameEntry[] next = withEntry(table, entry);
+            if (next == null) return false;
+            append(entry);
+            table = next;
+            if (fileRecords >= (long) COMPACT_FACTOR * capacity) compact();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<HallOfFameEntry> top(int limit) {
+        HallOfFameEntry[] current = table;
+        return new ArrayList<>(Arrays.asList(current).subList(0, Math.min(limit, current.length)));
+    }
+
+    /** Records in the file, including ones that have since dropped out of the table. */
+    public long fileRecords() {
+        lock.lock();
+        try {
+            return fileRecords;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private boolean qualifies(HallOfFameEntry[] current, long score) {
+        return current.length < capacity || score > current[current.length - 1].getScore();
+    }
+
+    /**
+     * Returns a copy of {@code current} with the entry inserted after any equal scores
+     * and the lowest dropped when full, or null if the entry does not qualify.
+     */
+    private HallOfFameEntry[] withEntry(HallOfFameEntry[] current, HallOfFameEntry entry) {
+        if (!qualifies(current, entry.getScore())) return null;
+        int position = current.length;
+        while (position > 0 && current[position - 1].getScore() < entry.getScore()) position--;
+        int size = Math.min(capacity, current.length + 1);
+        HallOfFameEntry[] next = new HallOfFameEntry[size];
+        System.arraycopy(current, 0, next, 0, position);
+        next[position] = entry;
+        System.arraycopy(current, position, next, position + 1, size - position - 1);
+        return next;
+    }
+
+    /** Writes the entry after the last complete record, overwriting whatever a failed append left. */
+    private void append(HallOfFameEntry entry) {
+        try {
+            writeRecord(file, entry, fileRecords * RECORD_BYTES);
+            fileRecords++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRecord(FileChannel channel, HallOfFameEntry entry, long position) throws IOException {
+        String player = entry.getPlayer();
+        record.clear();
+        record.putLong(entry.getScore()).putShort((short) player.length());
+        for (int i = 0; i < PLAYER_NAME_CHARS; i++) record.putChar(i < player.length() ? player.charAt(i) : '\0');
+        record.flip();
+        while (record.hasRemaining()) position += channel.write(record, position);
+    }
+
+    private void load() throws IOException {
+        long complete = file.size() / RECORD_BYTES; // A torn last record is ignored
+        ByteBuffer in = ByteBuffer.allocate(RECORD_BYTES * 256);
+        long position = 0;
+        long end = complete * RECORD_BYTES;
+        while (position < end) {
+            in.clear().limit((int) Math.min(in.capacity(), end - position));
+            while (in.hasRemaining()) {
+                if (file.read(in, position + in.position()) < 0) throw new IOException("Hall of fame file truncated");
+            }
+            in.flip();
+            while (in.remaining() >= RECORD_BYTES) {
+                long score = in.getLong();
+                int length = in.getShort();
+                char[] name = new char[Math.max(0, Math.min(length, PLAYER_NAME_CHARS))];
+                for (int i = 0; i < PLAYER_NAME_CHARS; i++) {
+                    char c = in.getChar();
+                    if (i < name.length) name[i] = c;
+                }
+                HallOfFameEntry[] next = withEntry(table, new HallOfFameEntry(new String(name), score));
+                if (next != null) table = next;
+            }
+            position += in.limit();
+        }
+        fileRecords = complete;
+        if (file.size() != end) file.truncate(end);
+    }
+
+    /**
+     * Rewrites the file with just the current table. Caller holds the lock (or is the
+     * constructor). If the rewrite fails the original file stays in place and open.
+     */
+    private void compact() {
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        HallOfFameEntry[] current = table;
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                long position = 0;
+                for (HallOfFameEntry entry : current) {
+                    writeRecord(out, entry, position);
+                    position += RECORD_BYTES;
+                }
+                out.force(true);
+            }
+            file.close();
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                fileRecords = current.length;
+            } finally {
+                // The compacted file, or the untouched original if the move failed
+                file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package persistence.impl;
+
+import model.HeroCodec;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Embedded JDBC database shared by the Jdbc* repositories: a small fixed pool of
+ * connections, each with its own prepared-statement cache, and the schema.
+ *
+ * Work runs through {@link #transaction(Work)}: a connection is borrowed (waiting if
+ * all are busy), the work runs in one transaction that is committed on success and
+ * rolled back on any failure (including Errors), and the connection goes back to the
+ * pool with every cached statement's batch and parameters cleared. SQLExceptions
+ * are rethrown as IllegalStateException, as is any transaction started on (or
+ * still waiting for a connection when) the database is closed.
+ *
+ * Defaults to H2 (e.g. {@code jdbc:h2:./data/legends} or {@code jdbc:h2:mem:test;DB_CLOSE_DELAY=-1});
+ * the schema only uses standard SQL types.
+ */
+public class JdbcDatabase implements Closeable {
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS profiles ("
+                + " id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+                + " hero VARBINARY(" + HeroCodec.HERO_BYTES + ") NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS party_heroes ("
+                + " player VARCHAR(64) NOT NULL,"
+                + " slot INT NOT NULL,"
+                + " position INT NOT NULL,"
+                + " hero VARBINARY(" + HeroCodec.HERO_BYTES + ") NOT NULL,"
+                + " PRIMARY KEY (player, slot, position))",
+        "CREATE TABLE IF NOT EXISTS league ("
+                + " player VARCHAR(64) PRIMARY KEY,"
+                + " wins INT NOT NULL,"
+                + " losses INT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS hall_of_fame ("
+                + " id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+                + " player VARCHAR(64) NOT NULL,"
+                + " score BIGINT NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS hall_of_fame_score ON hall_of_fame (score DESC)",
+    };
+
+    /** Unit of work run inside one transaction. */
+    @FunctionalInterface
+    public interface Work<T> {
+        T run(Session session) throws SQLException;
+    }
+
+    /** A pooled connection with a prepared-statement cache; only valid inside its Work. */
+    public static final class Session {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+        private final Map<String, PreparedStatement> inserts = new HashMap<>(); // return generated keys
+
+        private static final Session CLOSED = new Session(null); // Wakes borrowers after close()
+
+        private Session(Connection connection) {
+            this.connection = connection;
+        }
+
+        /** Returns the cached statement for {@code sql}, preparing it on first use. */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+
+        /**
+         * Like {@link #prepare(String)}, for an INSERT whose generated keys are read
+         * with {@link PreparedStatement#getGeneratedKeys()}.
+         */
+        public PreparedStatement prepareInsert(String sql) throws SQLException {
+            PreparedStatement statement = inserts.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                inserts.put(sql, statement);
+            }
+            return statement;
+        }
+
+        /** Commits the work done so far, e.g. between independent steps of one Work. */
+        public void commit() throws SQLException {
+            connection.commit();
+        }
+
+        /** Drops batches and parameters a failed or sloppy Work may have left behind. */
+        private void reset() throws SQLException {
+            for (PreparedStatement statement : statements.values()) reset(statement);
+            for (PreparedStatement statement : inserts.values()) reset(statement);
+        }
+
+        private static void reset(PreparedStatement statement) throws SQLException {
+            statement.clearBatch();
+            statement.clearParameters();
+        }
+
+        private void close() throws SQLException {
+            for (PreparedStatement statement : statements.values()) statement.close();
+            for (PreparedStatement statement : inserts.values()) statement.close();
+            connection.close();
+        }
+    }
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final BlockingQueue<Session> idle;
+    private final List<Session> all = new ArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * @param url      JDBC URL of the embedded database
+     * @param poolSize Number of pooled connections
+     */
+    public JdbcDatabase(String url, String user, String password, int poolSize) {
+        if (poolSize <= 0) throw new IllegalArgumentException("poolSize must be positive");
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+        try {
+            for (int i = 0; i < poolSize; i++) {
+                Session session = open();
+                all.add(session);
+                idle.add(session);
+            }
+        } catch (SQLException e) {
+            close();
+            throw new IllegalStateException("Cannot open database " + url, e);
+        }
+        transaction(session -> {
+            try (Statement statement = session.connection.createStatement()) {
+                for (String ddl : SCHEMA) statement.execute(ddl);
+            }
+            return null;
+        });
+    }
+
+    /** Opens an H2 database with a pool of 4 connections. */
+    public JdbcDatabase(String url) {
+        this(url, "sa", "", 4);
+    }
+
+    /** Runs {@code work} in one transaction on a pooled connection. */
+    public <T> T transaction(Work<T> work) {
+        if (closed) throw new IllegalStateException("Database is closed: " + url);
+        Session session;
+        try {
+            session = idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a connection", e);
+        }
+        if (session == Session.CLOSED) {
+            idle.offer(session); // Pass the wake-up on to the next waiting borrower
+            throw new IllegalStateException("Database is closed: " + url);
+        }
+        boolean committed = false;
+        try {
+            T result = work.run(session);
+            session.connection.commit();
+            committed = true;
+            return result;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Database error: " + e.getMessage(), e);
+        } finally {
+            if (!committed) rollback(session);
+            release(session);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (all) {
+            for (Session session : all) {
+                try {
+                    session.close();
+                } catch (SQLException e) {
+                    // Closing anyway; nothing useful to do with the failure
+                }
+            }
+            all.clear();
+        }
+        idle.clear();
+        idle.offer(Session.CLOSED);
+    }
+
+    /**
+     * Returns a session to the pool. If its statements cannot be reset the connection
+     * is replaced with a fresh one; should that fail too, the closed session goes back
+     * so the next borrower gets an error instead of waiting forever. After
+     * {@link #close()} the session is closed instead of pooled.
+     */
+    private void release(Session session) {
+        if (closed) {
+            try {
+                session.close();
+            } catch (SQLException ignored) {
+                // Closing anyway
+            }
+            return;
+        }
+        try {
+            session.reset();
+        } catch (SQLException e) {
+            try {
+                session.close();
+            } catch (SQLException ignored) {
+                // Already broken
+            }
+            try {
+                Session fresh = open();
+                synchronized (all) {
+                    all.set(all.indexOf(session), fresh);
+                }
+                session = fresh;
+            } catch (SQLException ignored) {
+                // Keep the closed session; using it fails fast
+            }
+        }
+        idle.add(session);
+    }
+
+    private Session open() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, user, password);
+        connection.setAutoCommit(false);
+        return new Session(connection);
+    }
+
+    private static void rollback(Session session) {
+        try {
+            session.connection.rollback();
+        } catch (SQLException e) {
+            // The original failure is the one worth reporting
+        }
+    }
+}
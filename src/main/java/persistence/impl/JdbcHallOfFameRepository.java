@@ -0,0 +1,50 @@
+package persistence.impl;
+
+import model.HallOfFameEntry;
+import persistence.HallOfFameRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HallOfFameRepository backed by the {@code hall_of_fame} table of a {@link JdbcDatabase}.
+ * {@link #top} is served by the descending score index.
+ */
+public class JdbcHallOfFameRepository implements HallOfFameRepository {
+
+    private static final String INSERT = "INSERT INTO hall_of_fame (player, score) VALUES (?, ?)";
+    private static final String TOP =
+            "SELECT player, score FROM hall_of_fame ORDER BY score DESC, id ASC FETCH FIRST ? ROWS ONLY";
+
+    private final JdbcDatabase database;
+
+    public JdbcHallOfFameRepository(JdbcDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void add(HallOfFameEntry entry) {
+        database.transaction(session -> {
+            PreparedStatement insert = session.prepare(INSERT);
+            insert.setString(1, entry.getPlayer());
+            insert.setLong(2, entry.getScore());
+            return insert.executeUpdate();
+        });
+    }
+
+    @Override
+    public List<HallOfFameEntry> top(int limit) {
+        if (limit < 0) throw new IllegalArgumentException("limit must not be negative");
+        return database.transaction(session -> {
+            PreparedStatement select = session.prepare(TOP);
+            select.setInt(1, limit);
+            List<HallOfFameEntry> entries = new ArrayList<>(limit);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) entries.add(new HallOfFameEntry(rows.getString(1), rows.getLong(2)));
+            }
+            return entries;
+        });
+    }
+}
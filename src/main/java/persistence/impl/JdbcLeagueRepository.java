@@ -0,0 +1,84 @@
+package persistence.impl;
+
+import model.LeagueRecord;
+import persistence.LeagueRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LeagueRepository backed by the {@code league} table of a {@link JdbcDatabase}.
+ */
+public class JdbcLeagueRepository implements LeagueRepository {
+
+    private static final String ADD_WIN = "UPDATE league SET wins = wins + 1 WHERE player = ?";
+    private static final String ADD_LOSS = "UPDATE league SET losses = losses + 1 WHERE player = ?";
+    private static final String INSERT = "INSERT INTO league (player, wins, losses) VALUES (?, ?, ?)";
+    private static final String SELECT = "SELECT wins, losses FROM league WHERE player = ?";
+    private static final String STANDINGS =
+            "SELECT player, wins, losses FROM league ORDER BY wins DESC, losses ASC, player ASC";
+
+    private final JdbcDatabase database;
+
+    public JdbcLeagueRepository(JdbcDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public void recordResult(String winner, String loser) {
+        database.transaction(session -> {
+            increment(session, ADD_WIN, winner, 1, 0);
+            increment(session, ADD_LOSS, loser, 0, 1);
+            return null;
+        });
+    }
+
+    @Override
+    public LeagueRecord find(String player) {
+        return database.transaction(session -> {
+            PreparedStatement select = session.prepare(SELECT);
+            select.setString(1, player);
+            try (ResultSet rows = select.executeQuery()) {
+                return rows.next()
+                        ? new LeagueRecord(player, rows.getInt(1), rows.getInt(2))
+                        : new LeagueRecord(player, 0, 0);
+            }
+        });
+    }
+
+    @Override
+    public List<LeagueRecord> standings() {
+        return database.transaction(session -> {
+            List<LeagueRecord> records = new ArrayList<>();
+            try (ResultSet rows = session.prepare(STANDINGS).executeQuery()) {
+                while (rows.next()) records.add(new LeagueRecord(rows.getString(1), rows.getInt(2), rows.getInt(3)));
+            }
+            return records;
+        });
+    }
+
+    /**
+     * Bumps the player's counter, inserting the row on their first game. If another
+     * transaction inserted the row first, the insert hits the primary key and the
+     * update is retried against that row.
+     */
+    private static void increment(JdbcDatabase.Session session, String update, String player,
+                                  int wins, int losses) throws SQLException {
+        PreparedStatement statement = session.prepare(update);
+        statement.setString(1, player);
+        if (statement.executeUpdate() > 0) return;
+        PreparedStatement insert = session.prepare(INSERT);
+        insert.setString(1, player);
+        insert.setInt(2, wins);
+        insert.setInt(3, losses);
+        try {
+            insert.executeUpdate();
+        } catch (SQLIntegrityConstraintViolationException e) {
+            if (statement.executeUpdate() == 0) throw e;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package persistence.impl;
+
+import model.Hero;
+import model.HeroCodec;
+import persistence.PartyKey;
+import persistence.PartyRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * PartyRepository backed by the {@code party_heroes} table of a {@link JdbcDatabase}:
+ * one row per hero, keyed by (player, slot, position).
+ *
+ * A save replaces the slot's rows with one batched DELETE and one batched INSERT in
+ * a single transaction; {@link #saveAll} does the same for many parties at once.
+ * {@link #loadAll} fetches all of a player's parties with a single query.
+ * With {@code batchWrites == false} every row is written and committed on its own
+ * instead, which is only useful as a baseline for benchmarks.
+ */
+public class JdbcPartyRepository implements PartyRepository {
+
+    private static final String INSERT =
+            "INSERT INTO party_heroes (player, slot, position, hero) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_SLOT = "DELETE FROM party_heroes WHERE player = ? AND slot = ?";
+    private static final String SELECT_SLOT =
+            "SELECT hero FROM party_heroes WHERE player = ? AND slot = ? ORDER BY position";
+    private static final String SELECT_PLAYER =
+            "SELECT slot, hero FROM party_heroes WHERE player = ? ORDER BY slot, position";
+
+    private final JdbcDatabase database;
+    private final boolean batchWrites;
+
+    public JdbcPartyRepository(JdbcDatabase database) {
+        this(database, true);
+    }
+
+    /** @param batchWrites false writes and commits each hero row separately (benchmark baseline) */
+    public JdbcPartyRepository(JdbcDatabase database, boolean batchWrites) {
+        this.database = database;
+        this.batchWrites = batchWrites;
+    }
+
+    @Override
+    public void save(String player, int slot, List<Hero> party) {
+        saveAll(Collections.singletonMap(new PartyKey(player, slot), party));
+    }
+
+    @Override
+    public void saveAll(Map<PartyKey, List<Hero>> parties) {
+        // Encode (and validate) everything before touching the database
+        List<PartyKey> keys = new ArrayList<>(parties.size());
+        List<byte[][]> records = new ArrayList<>(parties.size());
+        for (Map.Entry<PartyKey, List<Hero>> entry : parties.entrySet()) {
+            checkSlot(entry.getKey().getSlot());
+            List<Hero> party = entry.getValue();
+            if (party.size() > HeroCodec.MAX_PARTY_SIZE) {
+                throw new IllegalArgumentException("A party holds at most " + HeroCodec.MAX_PARTY_SIZE + " heroes");
+            }
+            byte[][] heroes = new byte[party.size()][];
+            for (int i = 0; i < heroes.length; i++) heroes[i] = JdbcProfileRepository.encode(party.get(i));
+            keys.add(entry.getKey());
+            records.add(heroes);
+        }
+
+        database.transaction(session -> {
+            PreparedStatement delete = session.prepare(DELETE_SLOT);
+            PreparedStatement insert = session.prepare(INSERT);
+            for (PartyKey key : keys) {
+                delete.setString(1, key.getPlayer());
+                delete.setInt(2, key.getSlot());
+                if (batchWrites) delete.addBatch();
+                else delete.executeUpdate();
+            }
+            if (batchWrites) delete.executeBatch();
+            else session.commit();
+
+            for (int p = 0; p < keys.size(); p++) {
+                PartyKey key = keys.get(p);
+                byte[][] heroes = records.get(p);
+                for (int position = 0; position < heroes.length; position++) {
+                    insert.setString(1, key.getPlayer());
+                    insert.setInt(2, key.getSlot());
+                    insert.setInt(3, position);
+                    insert.setBytes(4, heroes[position]);
+                    if (batchWrites) {
+                        insert.addBatch();
+                    } else {
+                        insert.executeUpdate();
+                        session.commit();
+                    }
+                }
+            }
+            if (batchWrites) insert.executeBatch();
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<List<Hero>> load(String player, int slot) {
+        checkSlot(slot);
+        List<Hero> party = database.transaction(session -> {
+            PreparedStatement select = session.prepare(SELECT_SLOT);
+            select.setString(1, player);
+            select.setInt(2, slot);
+            List<Hero> heroes = new ArrayList<>();
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) heroes.add(JdbcProfileRepository.decode(rows.getBytes(1)));
+            }
+            return heroes;
+        });
+        // An empty saved party has no rows, so it reads back as "no party"
+        return party.isEmpty() ? Optional.empty() : Optional.of(party);
+    }
+
+    /** Loads all of the player's parties in one round trip. */
+    @Override
+    public List<List<Hero>> loadAll(String player) {
+        return database.transaction(session -> {
+            PreparedStatement select = session.prepare(SELECT_PLAYER);
+            select.setString(1, player);
+            List<List<Hero>> parties = new ArrayList<>(MAX_SAVED_PARTIES);
+            int currentSlot = -1;
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    int slot = rows.getInt(1);
+                    if (slot != currentSlot) {
+                        parties.add(new ArrayList<>(HeroCodec.MAX_PARTY_SIZE));
+                        currentSlot = slot;
+                    }
+                    parties.get(parties.size() - 1).add(JdbcProfileRepository.decode(rows.getBytes(2)));
+                }
+            }
+            return parties;
+        });
+    }
+
+    @Override
+    public boolean delete(String player, int slot) {
+        checkSlot(slot);
+        return database.transaction(session -> {
+            PreparedStatement delete = session.prepare(DELETE_SLOT);
+            delete.setString(1, player);
+            delete.setInt(2, slot);
+            return delete.executeUpdate() > 0;
+        });
+    }
+
+    private static void checkSlot(int slot) {
+        if (slot < 0 || slot >= MAX_SAVED_PARTIES) {
+            throw new IllegalArgumentException("Party slot must be 0.." + (MAX_SAVED_PARTIES - 1) + ": " + slot);
+        }
+    }
+}
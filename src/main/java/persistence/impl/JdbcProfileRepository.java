@@ -0,0 +1,95 @@
+package persistence.impl;
+
+import model.Hero;
+import model.HeroCodec;
+import persistence.ProfileRepository;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Optional;
+
+/**
+ * ProfileRepository backed by the {@code profiles} table of a {@link JdbcDatabase}.
+ * Heroes are stored as {@link HeroCodec} records; ids come from the identity column.
+ */
+public class JdbcProfileRepository implements ProfileRepository {
+
+    private static final String INSERT = "INSERT INTO profiles (hero) VALUES (?)";
+    private static final String UPDATE = "UPDATE profiles SET hero = ? WHERE id = ?";
+    private static final String SELECT = "SELECT hero FROM profiles WHERE id = ?";
+    private static final String DELETE = "DELETE FROM profiles WHERE id = ?";
+    private static final String COUNT = "SELECT COUNT(*) FROM profiles";
+
+    private final JdbcDatabase database;
+
+    public JdbcProfileRepository(JdbcDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public long create(Hero hero) {
+        byte[] record = encode(hero);
+        return database.transaction(session -> {
+            PreparedStatement insert = session.prepareInsert(INSERT);
+            insert.setBytes(1, record);
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        });
+    }
+
+    @Override
+    public void update(long id, Hero hero) {
+        byte[] record = encode(hero);
+        int updated = database.transaction(session -> {
+            PreparedStatement update = session.prepare(UPDATE);
+            update.setBytes(1, record);
+            update.setLong(2, id);
+            return update.executeUpdate();
+        });
+        if (updated == 0) throw new IllegalArgumentException("No hero stored under id " + id);
+    }
+
+    @Override
+    public Optional<Hero> find(long id) {
+        return database.transaction(session -> {
+            PreparedStatement select = session.prepare(SELECT);
+            select.setLong(1, id);
+            try (ResultSet rows = select.executeQuery()) {
+                return rows.next() ? Optional.of(decode(rows.getBytes(1))) : Optional.empty();
+            }
+        });
+    }
+
+    @Override
+    public boolean delete(long id) {
+        return database.transaction(session -> {
+            PreparedStatement delete = session.prepare(DELETE);
+            delete.setLong(1, id);
+            return delete.executeUpdate() > 0;
+        });
+    }
+
+    @Override
+    public int count() {
+        return database.transaction(session -> {
+            try (ResultSet rows = session.prepare(COUNT).executeQuery()) {
+                rows.next();
+                return rows.getInt(1);
+            }
+        });
+    }
+
+    static byte[] encode(Hero hero) {
+        ByteBuffer buffer = ByteBuffer.allocate(HeroCodec.HERO_BYTES);
+        HeroCodec.encode(hero, buffer);
+        return buffer.array();
+    }
+
+    static Hero decode(byte[] record) {
+        return HeroCodec.decode(ByteBuffer.wrap(record));
+    }
+}
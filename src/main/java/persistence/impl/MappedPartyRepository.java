@@ -0,0 +1,193 @@
+package persistence.impl;
+
+import model.Hero;
+import model.HeroCodec;
+import persistence.PartyKey;
+import persistence.PartyRepository;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File-backed PartyRepository built on a {@link MappedRecordFile}: one fixed-size
+ * record per saved party, keyed by player name and slot. An in-memory index maps
+ * each player to the records of their (up to 5) parties, so loading a party for
+ * PvP is a direct read of one record from the mapping.
+ *
+ * Record layout: player name length (short), player name (24 chars), party slot
+ * (byte), 5 reserved bytes, then a {@link HeroCodec} party record.
+ * Every mutation is one WAL commit ({@link #saveAll} commits its whole batch at once).
+ * All methods hold one ReentrantLock rather than a monitor, so virtual threads
+ * waiting for it do not pin their carrier; the file I/O done under it still does.
+ */
+public class MappedPartyRepository implements PartyRepository, Closeable {
+
+    /** Longest player name that fits in a record. */
+    public static final int PLAYER_NAME_CHARS = 24;
+
+    private static final int KEY_BYTES = 56;
+    private static final int RECORD_BYTES = KEY_BYTES + HeroCodec.PARTY_BYTES;
+    private static final int NO_RECORD = -1;
+
+    private final MappedRecordFile file;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, int[]> recordsByPlayer = new HashMap<>(); // slot -> record, NO_RECORD if empty
+    private final ByteBuffer scratch = ByteBuffer.allocate(RECORD_BYTES);
+
+    /** Opens (or creates) the store at {@code path}, forcing the WAL on every write. */
+    public MappedPartyRepository(Path path) {
+        this(path, true);
+    }
+
+    /** @param syncOnCommit see {@link MappedRecordFile} */
+    public MappedPartyRepository(Path path, boolean syncOnCommit) {
+        this.file = new MappedRecordFile(path, RECORD_BYTES, syncOnCommit);
+        ByteBuffer buffer = file.buffer();
+        for (int record = 0; record < file.highWater(); record++) {
+            if (!file.isUsed(record)) continue;
+            int offset = file.payloadOffset(record);
+            char[] name = new char[buffer.getShort(offset)];
+            for (int i = 0; i < name.length; i++) name[i] = buffer.getChar(offset + 2 + 2 * i);
+            int slot = buffer.get(offset + 2 + 2 * PLAYER_NAME_CHARS);
+            recordsFor(new String(name))[slot] = record;
+        }
+    }
+
+    @Override
+    public void save(String player, int slot, List<Hero> party) {
+        lock.lock();
+        try {
+            stage(player, slot, party);
+            file.commit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Stages every party and commits them as a single WAL batch. */
+    @Override
+    public void saveAll(Map<PartyKey, List<Hero>> parties) {
+        lock.lock();
+        try {
+            try {
+                for (Map.Entry<PartyKey, List<Hero>> entry : parties.entrySet()) {
+                    stage(entry.getKey().getPlayer(), entry.getKey().getSlot(), entry.getValue());
+                }
+            } finally {
+                file.commit(); // whatever was staged before a failure is still indexed, so commit it
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<List<Hero>> load(String player, int slot) {
+        lock.lock();
+        try {
+            checkSlot(slot);
+            int[] records = recordsByPlayer.get(player);
+            if (records == null || records[slot] == NO_RECORD) return Optional.empty();
+            return Optional.of(decode(records[slot]));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<List<Hero>> loadAll(String player) {
+        lock.lock();
+        try {
+            int[] records = recordsByPlayer.get(player);
+            if (records == null) return new ArrayList<>();
+            List<List<Hero>> parties = new ArrayList<>(MAX_SAVED_PARTIES);
+            for (int record : records) {
+                if (record != NO_RECORD) parties.add(decode(record));
+            }
+            return parties;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(String player, int slot) {
+        lock.lock();
+        try {
+            checkSlot(slot);
+            int[] records = recordsByPlayer.get(player);
+            if (records == null || records[slot] == NO_RECORD) return false;
+            file.free(records[slot]);
+            file.commit();
+            records[slot] = NO_RECORD;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            file.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private void stage(String player, int slot, List<Hero> party) {
+        checkSlot(slot);
+        if (player.length() > PLAYER_NAME_CHARS) {
+            throw new IllegalArgumentException("Player name longer than " + PLAYER_NAME_CHARS + " chars: " + player);
+        }
+        ByteBuffer payload = encode(player, slot, party); // validates before anything is staged
+        int[] records = recordsFor(player);
+        if (records[slot] == NO_RECORD) records[slot] = file.allocate();
+        file.write(records[slot], payload);
+    }
+
+    private int[] recordsFor(String player) {
+        return recordsByPlayer.computeIfAbsent(player, p -> {
+            int[] records = new int[MAX_SAVED_PARTIES];
+            Arrays.fill(records, NO_RECORD);
+            return records;
+        });
+    }
+
+    private ByteBuffer encode(String player, int slot, List<Hero> party) {
+        scratch.clear();
+        scratch.putShort((short) player.length());
+        for (int i = 0; i < PLAYER_NAME_CHARS; i++) {
+            scratch.putChar(i < player.length() ? player.charAt(i) : '\0');
+        }
+        scratch.put((byte) slot);
+        scratch.position(KEY_BYTES);
+        HeroCodec.encodeParty(party, scratch);
+        return scratch.flip();
+    }
+
+    private List<Hero> decode(int record) {
+        ByteBuffer payload = file.read(record);
+        payload.position(KEY_BYTES);
+        return HeroCodec.decodeParty(payload);
+    }
+
+    private static void checkSlot(int slot) {
+        if (slot < 0 || slot >= MAX_SAVED_PARTIES) {
+            throw new IllegalArgumentException("Party slot must be 0.." + (MAX_SAVED_PARTIES - 1) + ": " + slot);
+        }
+    }
+}
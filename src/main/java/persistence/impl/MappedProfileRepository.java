@@ -0,0 +1,142 @@
+package persistence.impl;
+
+import model.Hero;
+import model.HeroCodec;
+import persistence.ProfileRepository;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File-backed ProfileRepository built on a {@link MappedRecordFile}: one fixed-size
+ * record per hero ({@code id} followed by a {@link HeroCodec} record), with an
+ * in-memory id index rebuilt by a single sequential scan on open. The next id is
+ * kept as the record file's sequence, so an id stays unused after its hero is
+ * deleted, even if it was the highest one and the store is reopened.
+ * Every mutation is one WAL commit. All methods hold one ReentrantLock rather than
+ * a monitor, so virtual threads waiting for it do not pin their carrier; the file
+ * I/O done under it still does.
+ */
+public class MappedProfileRepository implements ProfileRepository, Closeable {
+
+    private static final int RECORD_BYTES = Long.BYTES + HeroCodec.HERO_BYTES;
+
+    private final MappedRecordFile file;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final ByteBuffer scratch = ByteBuffer.allocate(RECORD_BYTES);
+    private long nextId;
+
+    /** Opens (or creates) the store at {@code path}, forcing the WAL on every write. */
+    public MappedProfileRepository(Path path) {
+        this(path, true);
+    }
+
+    /** @param syncOnCommit see {@link MappedRecordFile} */
+    public MappedProfileRepository(Path path, boolean syncOnCommit) {
+        this.file = new MappedRecordFile(path, RECORD_BYTES, syncOnCommit);
+        nextId = Math.max(1, file.sequence());
+        ByteBuffer buffer = file.buffer();
+        for (int slot = 0; slot < file.highWater(); slot++) {
+            if (!file.isUsed(slot)) continue;
+            long id = buffer.getLong(file.payloadOffset(slot));
+            slotsById.put(id, slot);
+            nextId = Math.max(nextId, id + 1);
+        }
+    }
+
+    @Override
+    public long create(Hero hero) {
+        lock.lock();
+        try {
+            ByteBuffer record = encode(nextId, hero); // validates before anything is staged
+            long id = nextId++;
+            int slot = file.allocate();
+            file.write(slot, record);
+            file.setSequence(nextId);
+            try {
+                file.commit();
+            } catch (RuntimeException e) {
+                file.free(slot); // the write stays staged, so cancel it in the same retried batch
+                throw e;
+            }
+            slotsById.put(id, slot);
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void update(long id, Hero hero) {
+        lock.lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot == null) throw new IllegalArgumentException("No hero stored under id " + id);
+            file.write(slot, encode(id, hero));
+            file.commit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Hero> find(long id) {
+        lock.lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot == null) return Optional.empty();
+            ByteBuffer record = file.read(slot);
+            record.position(Long.BYTES);
+            return Optional.of(HeroCodec.decode(record));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(long id) {
+        lock.lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot == null) return false;
+            file.free(slot);
+            file.commit();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int count() {
+        lock.lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            file.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ByteBuffer encode(long id, Hero hero) {
+        scratch.clear();
+        scratch.putLong(id);
+        HeroCodec.encode(hero, scratch);
+        return scratch.flip();
+    }
+}
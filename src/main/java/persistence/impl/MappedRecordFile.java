@@ -0,0 +1,358 @@
+package persistence.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * File of fixed-size records accessed through a {@link MappedByteBuffer}, with a
+ * free-list for deleted slots and a write-ahead log (WAL) for crash consistency.
+ * Shared engine of the memory-mapped repositories; not thread-safe on its own.
+ *
+ * Data file layout:
+ * <pre>
+ *   header (64 bytes): magic, format, payload size, high water mark (slots ever used),
+ *                      sequence (a long the owner may use, e.g. for its next id)
+ *   slot i:            state byte (FREE/USED), 3 reserved bytes, payload
+ * </pre>
+ * Writes are staged in memory and made durable by {@link #commit()}: the staged slot
+ * images are appended to the WAL as one checksummed batch, the WAL is forced to
+ * disk, and only then are the images copied into the mapping. On open, every
+ * complete batch in the WAL is replayed (slot images are idempotent) and a torn
+ * tail is ignored. If writing or forcing the batch fails, the WAL is cut back to
+ * the end of the last good batch and the batch stays staged: the next commit
+ * retries it together with anything staged since, and until then the mapping
+ * still shows the state before it. Once the WAL grows past
+ * {@link #CHECKPOINT_BYTES} the mapping is forced and the WAL truncated.
+ *
+ * Every batch also carries the current {@link #sequence()}, so it is as durable as
+ * the writes committed with it. The free-list is kept in memory and rebuilt from
+ * the state bytes on open.
+ *
+ * The whole file is a single mapping, so it is limited to 2 GB: {@link #maxSlots()}
+ * records (about 2.3 million parties). Allocating past that fails with an
+ * IllegalStateException and leaves the file usable.
+ */
+final class MappedRecordFile implements Closeable {
+
+    static final long CHECKPOINT_BYTES = 8L << 20;
+
+    private static final int MAGIC = 0x4C535744; // "LSWD"
+    private static final int FORMAT = 2;
+    private static final int HEADER_BYTES = 64;
+    private static final int H_MAGIC = 0;
+    private static final int H_FORMAT = 4;
+    private static final int H_PAYLOAD = 8;
+    private static final int H_HIGH_WATER = 12;
+    private static final int H_SEQUENCE = 16;
+
+    private static final int SLOT_HEADER_BYTES = 4;
+    private static final byte FREE = 0;
+    private static final byte USED = 1;
+
+    private static final int BATCH_MAGIC = 0x57414C42; // "WALB"
+    private static final int BATCH_HEADER_BYTES = 20;  // magic, entry count, high water, sequence
+    private static final int ENTRY_HEADER_BYTES = 5;   // slot, state
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final FileChannel channel;
+    private final FileChannel wal;
+    private final int payloadBytes;
+    private final int slotBytes;
+    private final boolean syncOnCommit;
+    private final int maxSlots; // most slots one MappedByteBuffer can address
+
+    private MappedByteBuffer map;
+    private int capacity;  // slots the file currently has room for
+    private int highWater; // slots below this index have been used at least once
+    private long sequence;
+
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    private ByteBuffer staging = ByteBuffer.allocate(4096);
+    private int stagedEntries;
+    private long walBytes;
+
+    /**
+     * Opens (or creates) the record file at {@code path}; the WAL lives next to it
+     * as {@code <path>.wal}. Any committed batches still in the WAL are replayed.
+     * @param syncOnCommit Force the WAL to disk on every commit (false trades the
+     *                     last few commits on power loss for throughput)
+     */
+    MappedRecordFile(Path path, int payloadBytes, boolean syncOnCommit) {
+        this(path, payloadBytes, syncOnCommit, openWal(path));
+    }
+
+    /** Opens the record file with an already open WAL channel (tests inject failing ones). */
+    MappedRecordFile(Path path, int payloadBytes, boolean syncOnCommit, FileChannel wal) {
+        this.wal = wal;
+        this.payloadBytes = payloadBytes;
+        this.slotBytes = SLOT_HEADER_BYTES + payloadBytes;
+        this.syncOnCommit = syncOnCommit;
+        this.maxSlots = (Integer.MAX_VALUE - HEADER_BYTES) / slotBytes;
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() == 0) {
+                remap(INITIAL_CAPACITY);
+                map.putInt(H_MAGIC, MAGIC);
+                map.putInt(H_FORMAT, FORMAT);
+                map.putInt(H_PAYLOAD, payloadBytes);
+                map.putInt(H_HIGH_WATER, 0);
+            } else {
+                remap((int) ((channel.size() - HEADER_BYTES) / slotBytes));
+                if (map.getInt(H_MAGIC) != MAGIC || map.getInt(H_FORMAT) != FORMAT
+                        || map.getInt(H_PAYLOAD) != payloadBytes) {
+                    throw new IllegalStateException("Not a compatible record file: " + path);
+                }
+                highWater = map.getInt(H_HIGH_WATER);
+                sequence = map.getLong(H_SEQUENCE);
+            }
+            replayWal();
+            checkpoint();
+            for (int slot = highWater - 1; slot >= 0; slot--) {
+                if (map.get(slotOffset(slot)) == FREE) pushFree(slot);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Reading
+    // -------------------------------------------------------------------------
+
+    /** Most slots the file can hold (the mapping is limited to 2 GB). */
+    int maxSlots() {
+        return maxSlots;
+    }
+
+    /** Slots {@code 0..highWater()-1} may be in use; everything above is unused. */
+    int highWater() {
+        return highWater;
+    }
+
+    /** The owner's sequence value as of the last {@link #setSequence} (0 for a new file). */
+    long sequence() {
+        return sequence;
+    }
+
+    boolean isUsed(int slot) {
+        return map.get(slotOffset(slot)) == USED;
+    }
+
+    /** Absolute offset of the slot's payload in {@link #buffer()}. */
+    int payloadOffset(int slot) {
+        return slotOffset(slot) + SLOT_HEADER_BYTES;
+    }
+
+    /** The mapping itself, for absolute reads; replaced whenever the file grows. */
+    ByteBuffer buffer() {
+        return map;
+    }
+
+    /** A buffer over just the slot's payload, positioned at its start. */
+    ByteBuffer read(int slot) {
+        return map.slice(payloadOffset(slot), payloadBytes);
+    }
+
+    // -------------------------------------------------------------------------
+    // Writing
+    // -------------------------------------------------------------------------
+
+    /** Reserves a slot, reusing a deleted one when possible. Becomes used once written. */
+    int allocate() {
+        if (freeCount > 0) return freeSlots[--freeCount];
+        if (highWater == capacity) grow(highWater + 1);
+        return highWater++;
+    }
+
+    /** Stages writing {@code payloadBytes} bytes from {@code payload}'s position into the slot. */
+    void write(int slot, ByteBuffer payload) {
+        if (payload.remaining() < payloadBytes) throw new IllegalArgumentException("Short payload");
+        ensureStaging(ENTRY_HEADER_BYTES + payloadBytes);
+        staging.putInt(slot).put(USED);
+        staging.put(payload.slice(payload.position(), payloadBytes));
+        stagedEntries++;
+    }
+
+    /** Stages freeing the slot; it is immediately available to {@link #allocate()}. */
+    void free(int slot) {
+        ensureStaging(ENTRY_HEADER_BYTES);
+        staging.putInt(slot).put(FREE);
+        stagedEntries++;
+        pushFree(slot);
+    }
+
+    /** Sets the sequence; it is persisted with the next commit. */
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /** Makes all staged writes durable (per {@code syncOnCommit}) and visible. */
+    void commit() {
+        if (stagedEntries == 0) return;
+        int stagedBytes = staging.position();
+        staging.flip();
+        staging.putInt(0, BATCH_MAGIC).putInt(4, stagedEntries).putInt(8, highWater).putLong(12, sequence);
+        CRC32 crc = new CRC32();
+        crc.update(staging.duplicate());
+        long end = walBytes;
+        try {
+            ByteBuffer batch = staging.duplicate();
+            ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES).putLong(0, crc.getValue());
+            while (batch.hasRemaining()) end += wal.write(batch, end);
+            while (trailer.hasRemaining()) end += wal.write(trailer, end);
+            if (syncOnCommit) wal.force(false);
+        } catch (IOException e) {
+            try {
+                wal.truncate(walBytes); // the next batch is written at walBytes either way
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+            }
+            staging.limit(staging.capacity()).position(stagedBytes); // keep the batch staged
+            throw new UncheckedIOException(e);
+        }
+        walBytes = end;
+        staging.position(BATCH_HEADER_BYTES);
+        applyBatch(staging, stagedEntries, highWater, sequence);
+        staging.clear().position(BATCH_HEADER_BYTES);
+        stagedEntries = 0;
+        if (walBytes > CHECKPOINT_BYTES) checkpoint();
+    }
+
+    /** Forces the mapping to disk and empties the WAL. */
+    void checkpoint() {
+        try {
+            map.force();
+            wal.truncate(0);
+            wal.force(true);
+            walBytes = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        commit();
+        checkpoint();
+        try {
+            wal.close();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private static FileChannel openWal(Path path) {
+        try {
+            return FileChannel.open(path.resolveSibling(path.getFileName() + ".wal"),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void applyBatch(ByteBuffer batch, int entries, int batchHighWater, long batchSequence) {
+        for (int i = 0; i < entries; i++) {
+            int slot = batch.getInt();
+            byte state = batch.get();
+            if (slot >= capacity) grow(slot + 1);
+            int offset = slotOffset(slot);
+            map.put(offset, state);
+            if (state == USED) {
+                map.put(offset + SLOT_HEADER_BYTES, batch, batch.position(), payloadBytes);
+                batch.position(batch.position() + payloadBytes);
+            }
+        }
+        highWater = Math.max(highWater, batchHighWater);
+        map.putInt(H_HIGH_WATER, highWater);
+        sequence = Math.max(sequence, batchSequence);
+        map.putLong(H_SEQUENCE, sequence);
+    }
+
+    /** Re-applies every complete, checksummed batch found in the WAL. */
+    private void replayWal() throws IOException {
+        long size = wal.size();
+        if (size == 0) return;
+        ByteBuffer log = ByteBuffer.allocate((int) size);
+        while (log.hasRemaining() && wal.read(log, log.position()) > 0) { }
+        log.flip();
+        CRC32 crc = new CRC32();
+        while (log.remaining() >= BATCH_HEADER_BYTES) {
+            int start = log.position();
+            if (log.getInt(start) != BATCH_MAGIC) break;
+            int entries = log.getInt(start + 4);
+            int batchHighWater = log.getInt(start + 8);
+            long batchSequence = log.getLong(start + 12);
+            int end = batchEnd(log, start + BATCH_HEADER_BYTES, entries);
+            if (end < 0 || end + Long.BYTES > log.limit()) break; // torn tail
+            crc.reset();
+            crc.update(log.slice(start, end - start));
+            if (crc.getValue() != log.getLong(end)) break;
+            log.position(start + BATCH_HEADER_BYTES);
+            applyBatch(log, entries, batchHighWater, batchSequence);
+            log.position(end + Long.BYTES);
+        }
+    }
+
+    /** Offset just past the batch's entries, or -1 if they run past the end of the log. */
+    private int batchEnd(ByteBuffer log, int position, int entries) {
+        for (int i = 0; i < entries; i++) {
+            if (position + ENTRY_HEADER_BYTES > log.limit()) return -1;
+            boolean used = log.get(position + 4) == USED;
+            position += ENTRY_HEADER_BYTES + (used ? payloadBytes : 0);
+        }
+        return position <= log.limit() ? position : -1;
+    }
+
+    private void ensureStaging(int bytes) {
+        if (staging.position() == 0) staging.position(BATCH_HEADER_BYTES);
+        if (staging.remaining() < bytes) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(staging.capacity() * 2, staging.position() + bytes));
+            staging.flip();
+            bigger.put(staging);
+            staging = bigger;
+        }
+    }
+
+    private void grow(int minSlots) {
+        remap(Math.max(minSlots, (int) Math.min((long) capacity * 2, maxSlots)));
+    }
+
+    /** Maps room for {@code slots} slots; capacity only changes once the mapping succeeded. */
+    private void remap(int slots) {
+        if (slots < 0 || slots > maxSlots) {
+            throw new IllegalStateException("Record file is full: a mapping holds at most " + maxSlots
+                    + " slots of " + slotBytes + " bytes");
+        }
+        try {
+            map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) slots * slotBytes);
+            capacity = slots;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void pushFree(int slot) {
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int slotOffset(int slot) {
+        return HEADER_BYTES + slot * slotBytes;
+    }
+}
@@ -0,0 +1,307 @@
+package persistence.impl;
+
+import model.Hero;
+import persistence.PartyKey;
+import persistence.PartyRepository;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind layer in front of another PartyRepository (UC6 saves party state
+ * after every room).
+ *
+ * {@link #save} and {@link #delete} only record the change in memory and return.
+ * Repeated changes to the same party before a flush are coalesced, so only the
+ * latest state is written. A background flusher hands everything pending to the
+ * delegate's {@link PartyRepository#saveAll} once {@code batchSize} parties are
+ * pending or the oldest change is {@code maxDelay} old. Reads see pending changes.
+ *
+ * {@link #flush()} is the durability barrier: it returns once every change made
+ * before the call has been written by the delegate. Call it at campaign end and
+ * before saving a party for PvP.
+ *
+ * Memory is bounded by {@code maxPending} parties (plus the batch being written):
+ * a save that would exceed it blocks until the flusher catches up. If the delegate
+ * fails, the batch is kept and retried after {@code maxDelay} (or at the next
+ * {@link #flush()}); a flush during which a write fails rethrows the failure as an
+ * IllegalStateException. The delegate is not closed by
+ * this class.
+ */
+public class WriteBehindPartyRepository implements PartyRepository, Closeable {
+
+    private static final List<Hero> DELETED = Collections.unmodifiableList(new ArrayList<>()); // compared by identity
+
+    private final PartyRepository delegate;
+    private final int batchSize;
+    private final int maxPending;
+    private final long maxDelayNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition work = lock.newCondition();    // flusher: something to do
+    private final Condition notFull = lock.newCondition(); // writers: room in the buffer
+    private final Condition flushed = lock.newCondition(); // barrier: a batch finished
+
+    // Guarded by lock
+    private LinkedHashMap<PartyKey, List<Hero>> pending = new LinkedHashMap<>();
+    private Map<PartyKey, List<Hero>> inFlight = Collections.emptyMap();
+    private long oldestPendingNanos;
+    private long acceptedSeq;   // number of changes accepted so far
+    private long durableSeq;    // all changes up to this number have been written
+    private boolean flushRequested;
+    private boolean closing;
+    private RuntimeException failure; // most recent delegate failure
+    private long failures;            // number of failed batch writes
+
+    private final Thread flusher;
+
+    /** Flushes every 64 parties or 200 ms, buffering at most 1024 parties. */
+    public WriteBehindPartyRepository(PartyRepository delegate) {
+        this(delegate, 64, Duration.ofMillis(200), 1024);
+    }
+
+    /**
+     * @param delegate   Repository the batches are written to
+     * @param batchSize  Pending parties that trigger a flush
+     * @param maxDelay   Longest a change waits before being flushed
+     * @param maxPending Pending parties at which saves start blocking (back-pressure)
+     */
+    public WriteBehindPartyRepository(PartyRepository delegate, int batchSize, Duration maxDelay, int maxPending) {
+        if (batchSize <= 0 || maxPending < batchSize) {
+            throw new IllegalArgumentException("Need 0 < batchSize <= maxPending");
+        }
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.flusher = new Thread(this::runFlusher, "party-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    // -------------------------------------------------------------------------
+    // PartyRepository
+    // -------------------------------------------------------------------------
+
+    /** Buffers a copy of {@code party}; blocks while the buffer is full. */
+    @Override
+    public void save(String player, int slot, List<Hero> party) {
+        List<Hero> copy = new ArrayList<>(party.size());
+        for (Hero hero : party) copy.add(new Hero(hero)); // caller keeps mutating its heroes
+        enqueue(new PartyKey(player, slot), Collections.unmodifiableList(copy));
+    }
+
+    @Override
+    public void saveAll(Map<PartyKey, List<Hero>> parties) {
+        for (Map.Entry<PartyKey, List<Hero>> entry : parties.entrySet()) {
+            save(entry.getKey().getPlayer(), entry.getKey().getSlot(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Optional<List<Hero>> load(String player, int slot) {
+        List<Hero> buffered = buffered(new PartyKey(player, slot));
+        if (buffered == null) return delegate.load(player, slot);
+        return buffered == DELETED ? Optional.empty() : Optional.of(copyOf(buffered));
+    }
+
+    @Override
+    public List<List<Hero>> loadAll(String player) {
+        List<List<Hero>> parties = new ArrayList<>(MAX_SAVED_PARTIES);
+        for (int slot = 0; slot < MAX_SAVED_PARTIES; slot++) {
+            load(player, slot).ifPresent(parties::add);
+        }
+        return parties;
+    }
+
+    /** Buffers the deletion; returns whether a party was saved in the slot. */
+    @Override
+    public boolean delete(String player, int slot) {
+        boolean existed = load(player, slot).isPresent();
+        if (existed) enqueue(new PartyKey(player, slot), DELETED);
+        return existed;
+    }
+
+    // -------------------------------------------------------------------------
+    // Durability
+    // -------------------------------------------------------------------------
+
+    /**
+     * Durability barrier: blocks until every change accepted before this call has been
+     * written by the delegate.
+     * @throws IllegalStateException if the delegate failed or the thread was interrupted
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            long target = acceptedSeq;
+            long failuresBefore = failures;
+            flushRequested = true; // also retries a failed batch right away
+            work.signal();
+            while (durableSeq < target) {
+                if (failures != failuresBefore) throw new IllegalStateException("Write-behind flush failed", failure);
+                flushed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while flushing", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Number of parties waiting to be flushed (excluding the batch being written). */
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Flushes everything pending and stops the flusher. */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            lock.lock();
+            try {
+                closing = true;
+                work.signal();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private void enqueue(PartyKey key, List<Hero> party) {
+        if (key.getSlot() < 0 || key.getSlot() >= MAX_SAVED_PARTIES) {
+            throw new IllegalArgumentException("Party slot must be 0.." + (MAX_SAVED_PARTIES - 1) + ": " + key.getSlot());
+        }
+        lock.lock();
+        try {
+            if (closing) throw new IllegalStateException("Repository is closed");
+            // Coalescing into an existing entry never needs more room
+            while (pending.size() >= maxPending && !pending.containsKey(key)) {
+                flushRequested = true;
+                work.signal();
+                notFull.await();
+            }
+            if (pending.isEmpty()) oldestPendingNanos = System.nanoTime();
+            pending.put(key, party);
+            acceptedSeq++;
+            if (pending.size() >= batchSize) work.signal();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the write-behind buffer", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** The pending or in-flight state for {@code key}, DELETED, or null if nothing is buffered. */
+    private List<Hero> buffered(PartyKey key) {
+        lock.lock();
+        try {
+            List<Hero> party = pending.get(key);
+            return party != null ? party : inFlight.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                while (!closing && !flushRequested && pending.size() < batchSize
+                        && (pending.isEmpty() || now - oldestPendingNanos < maxDelayNanos)) {
+                    if (pending.isEmpty()) work.await();
+                    else work.awaitNanos(maxDelayNanos - (now - oldestPendingNanos));
+                    now = System.nanoTime();
+                }
+                flushRequested = false;
+                if (pending.isEmpty()) {
+                    durableSeq = acceptedSeq;
+                    flushed.signalAll();
+                    if (closing) return;
+                    continue;
+                }
+                LinkedHashMap<PartyKey, List<Hero>> batch = pending;
+                long batchSeq = acceptedSeq;
+                pending = new LinkedHashMap<>();
+                inFlight = batch;
+                notFull.signalAll();
+
+                RuntimeException error = null;
+                lock.unlock();
+                try {
+                    write(batch);
+                } catch (RuntimeException e) {
+                    error = e;
+                } finally {
+                    lock.lock();
+                }
+
+                inFlight = Collections.emptyMap();
+                if (error == null) {
+                    durableSeq = Math.max(durableSeq, batchSeq);
+                } else {
+                    failure = error;
+                    failures++;
+                    // Keep the batch, unless a newer change to the same party arrived meanwhile
+                    LinkedHashMap<PartyKey, List<Hero>> retry = new LinkedHashMap<>(batch);
+                    retry.putAll(pending);
+                    pending = retry;
+                    oldestPendingNanos = System.nanoTime();
+                    flushed.signalAll(); // let barrier waiters see the failure
+                    if (closing) return;
+                    work.awaitNanos(maxDelayNanos);
+                    continue;
+                }
+                flushed.signalAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(Map<PartyKey, List<Hero>> batch) {
+        Map<PartyKey, List<Hero>> saves = new LinkedHashMap<>();
+        for (Map.Entry<PartyKey, List<Hero>> entry : batch.entrySet()) {
+            if (entry.getValue() != DELETED) saves.put(entry.getKey(), entry.getValue());
+        }
+        if (!saves.isEmpty()) delegate.saveAll(saves);
+        for (Map.Entry<PartyKey, List<Hero>> entry : batch.entrySet()) {
+            if (entry.getValue() == DELETED) delegate.delete(entry.getKey().getPlayer(), entry.getKey().getSlot());
+        }
+    }
+
+    private static List<Hero> copyOf(List<Hero> party) {
+        List<Hero> copy = new ArrayList<>(party.size());
+        for (Hero hero : party) copy.add(new Hero(hero));
+        return copy;
+    }
+}
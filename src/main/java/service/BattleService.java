@@ -2,6 +2,7 @@ package service;
 
 import model.Hero;
 import model.BattleResult;
+import model.IsolatedBattle;
 import java.util.List;
 
 /**
@@ -16,4 +17,25 @@ public interface BattleService {
      * @return BattleResult containing the outcome and final state
      */
     BattleResult startBattle(List<Hero> teamA, List<Hero> teamB);
+
+    /**
+     * Starts a reproducible battle: the same teams and seed always replay the same battle.
+     * @param teamA List of heroes in team A
+     * @param teamB List of heroes in team B
+     * @param seed Seed for the battle's random source
+     * @return BattleResult containing the outcome and final state
+     */
+    BattleResult startBattle(List<Hero> teamA, List<Hero> teamB, long seed);
+
+    /**
+     * Opt-in copy-on-write mode: fights the battle on copies of both teams, leaving the
+     * given heroes untouched until {@link IsolatedBattle#commit()} is called.
+     * @param seed Seed for the battle's random source
+     * @return The battle, holding the copies and their result
+     */
+    default IsolatedBattle startIsolatedBattle(List<Hero> teamA, List<Hero> teamB, long seed) {
+        IsolatedBattle battle = new IsolatedBattle(teamA, teamB);
+        battle.setResult(startBattle(battle.getTeamA(), battle.getTeamB(), seed));
+        return battle;
+    }
 }
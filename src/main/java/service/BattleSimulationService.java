@@ -0,0 +1,28 @@
+package service;
+
+import model.Hero;
+import model.SimulationResult;
+import java.util.List;
+
+/**
+ * Service interface for balance-testing two parties by fighting them many times.
+ * The given heroes are treated as templates and are never mutated; every run
+ * battles fresh deep copies.
+ */
+public interface BattleSimulationService {
+    /**
+     * Fights {@code teamA} against {@code teamB} {@code iterations} times.
+     * @param teamA Template heroes for team A
+     * @param teamB Template heroes for team B
+     * @param iterations Number of independent battles to run (must be positive)
+     * @return Aggregated win/draw rates, mean rounds and per-hero survival
+     */
+    SimulationResult simulate(List<Hero> teamA, List<Hero> teamB, int iterations);
+
+    /**
+     * Reproducible variant of {@link #simulate(List, List, int)}: the same seed always
+     * produces the same result, regardless of how the runs are spread over threads.
+     * @param seed Master seed; each run derives its own independent battle seed from it
+     */
+    SimulationResult simulate(List<Hero> teamA, List<Hero> teamB, int iterations, long seed);
+}
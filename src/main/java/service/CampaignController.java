@@ -0,0 +1,26 @@
+package service;
+
+import model.Campaign;
+import model.Hero;
+import model.RoomResult;
+import java.util.List;
+
+/**
+ * PvE campaign controller (SDD M3, UC6): walks a party through the campaign rooms.
+ * Campaign state lives in {@link Campaign}, so one controller serves any number of
+ * concurrent players.
+ */
+public interface CampaignController {
+    /**
+     * Starts a new campaign for the given party.
+     * @param seed Seed from which every room's encounter, enemies and battle are derived
+     */
+    Campaign startCampaign(List<Hero> party, long seed);
+
+    /**
+     * Enters the campaign's next room: draws battle or inn from the encounter table,
+     * then fights (exp and gold on a win, penalties on a loss) or rests at the inn.
+     * @throws IllegalStateException if the campaign is already finished
+     */
+    RoomResult enterNextRoom(Campaign campaign);
+}
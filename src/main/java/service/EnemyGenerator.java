@@ -0,0 +1,18 @@
+package service;
+
+import model.Hero;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates hostile PvE parties: 1 to 5 units of level 1 to 10, whose cumulative level
+ * and stats scale with the player's party.
+ */
+public interface EnemyGenerator {
+    /**
+     * @param playerCumulativeLevel Sum of the player's hero levels
+     * @param random Source for all random choices (the room's random stream)
+     * @return A fresh enemy party at full health, without special abilities
+     */
+    List<Hero> generate(int playerCumulativeLevel, RandomGenerator random);
+}
@@ -0,0 +1,49 @@
+package service;
+
+import model.Campaign;
+import model.Hero;
+import model.Purchase;
+import java.util.List;
+
+/**
+ * Inn visits during a PvE campaign (SDD M4, UC7): free restoration on arrival, the
+ * item shop and, in the first {@link #RECRUIT_ROOMS} rooms, recruitment.
+ */
+public interface InnService {
+
+    /** Rooms (from the start of the campaign) in which inns offer recruits. */
+    int RECRUIT_ROOMS = 10;
+    /** Recruit price per level above 1 (level 1 recruits are free). */
+    int RECRUIT_PRICE_PER_LEVEL = 200;
+
+    /**
+     * Arrival at the inn in the campaign's current room: revives and fully restores
+     * every hero, and puts this inn's recruits on offer (none after the first
+     * {@link #RECRUIT_ROOMS} rooms or when the party is full).
+     */
+    void visitInn(Campaign campaign);
+
+    /**
+     * Buys a whole basket in one call. The total price is taken from the campaign's
+     * gold atomically; if it is not covered nothing is bought and nothing changes.
+     * Otherwise every item's effect is applied to its target hero.
+     * @return false if there was not enough gold for the whole basket
+     * @throws IllegalArgumentException if a target hero is not in the party
+     */
+    boolean purchase(Campaign campaign, List<Purchase> basket);
+
+    /**
+     * Recruits a hero offered at the last inn (see {@link Campaign#getRecruits()}):
+     * free at level 1, otherwise {@link #RECRUIT_PRICE_PER_LEVEL} gold per level.
+     * The hero is taken off the offer before any gold is spent, so concurrent
+     * sessions hiring the same recruit pay at most once between them.
+     * @return false if there was not enough gold (the hero stays on offer)
+     * @throws IllegalStateException if the party is full or the hero is not on offer
+     */
+    boolean recruit(Campaign campaign, Hero recruit);
+
+    /** Price of recruiting a hero of the given level. */
+    static int recruitPrice(int level) {
+        return level <= 1 ? 0 : RECRUIT_PRICE_PER_LEVEL * level;
+    }
+}
@@ -0,0 +1,31 @@
+package service;
+
+import model.LeagueRecord;
+import java.util.List;
+
+/**
+ * PvP league table (SDD M5, UC8): every player's wins and losses and their ranking.
+ *
+ * Players are ranked by most wins, then fewest losses, then name. Players appear in
+ * the table once they have played.
+ */
+public interface LeagueService {
+
+    /** Records a PvP battle won by {@code winner} against {@code loser}. */
+    void recordResult(String winner, String loser);
+
+    /** The player's record; a player who never played has 0 wins and 0 losses. */
+    LeagueRecord getRecord(String player);
+
+    /** The {@code n} best players, best first. */
+    List<LeagueRecord> top(int n);
+
+    /**
+     * The player's rank: 1 + the number of players with a strictly better record
+     * (players with equal records share a rank). 0 if the player never played.
+     */
+    int rank(String player);
+
+    /** Number of players in the table. */
+    int playerCount();
+}
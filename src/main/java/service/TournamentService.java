@@ -0,0 +1,31 @@
+package service;
+
+import model.MatchResult;
+import model.TournamentEntry;
+import java.util.List;
+
+/**
+ * Offline PvP tournaments between saved parties (SDD M5). Every match is fought on
+ * copies of the parties and its result is recorded in the league as it finishes.
+ *
+ * Two entries of the same player never meet, since a player cannot play themselves.
+ */
+public interface TournamentService {
+
+    /**
+     * Every entry plays every other entry once, scheduled in rounds where each entry
+     * plays at most once (circle method).
+     * @param seed Seed from which every match's battle seed is derived
+     * @return All results, in schedule order
+     */
+    List<MatchResult> roundRobin(List<TournamentEntry> entries, long seed);
+
+    /**
+     * Swiss system: each round pairs entries with equal or similar scores (a win is
+     * worth 2 points, a draw 1) that have not met yet; with an odd number of entries
+     * the lowest-ranked one without a bye sits the round out and scores a win.
+     * @param rounds Number of rounds to play
+     * @return All results, in schedule order
+     */
+    List<MatchResult> swiss(List<TournamentEntry> entries, int rounds, long seed);
+}
@@ -0,0 +1,518 @@
+package service.impl;
+
+import service.BattleService;
+import model.Ability;
+import model.BattleResult;
+import model.Hero;
+import model.StatusEffect;
+import model.StatusType;
+import model.ability.BerserkerAttack;
+import model.ability.ChainLightning;
+import model.ability.Fireball;
+import model.ability.Heal;
+import model.ability.Protect;
+import model.ability.Replenish;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Structure-of-arrays implementation of BattleService for high-volume simulation.
+ *
+ * At battle start both teams are copied into primitive arrays (HP, mana, shield,
+ * attack, defense, stun flags, status effects and an alive bitmask). The whole round
+ * loop then runs over those arrays with no Hero calls, iterators or list copies, and
+ * the final combat state is written back into the Hero objects at the end.
+ *
+ * The rules mirror {@link BattleServiceImpl} exactly, including initiative order,
+ * AI decisions, every built-in ability variant and the order of random draws, so
+ * both engines produce the same battle for the same seed. Heroes whose abilities are
+ * not one of the built-in classes, or teams too large for the bitmask, are handed to
+ * {@link BattleServiceImpl} unchanged. Battle event recording is only available on
+ * {@link BattleServiceImpl}.
+ */
+public class ArrayBattleServiceImpl implements BattleService {
+
+    private static final int MAX_ROUNDS = 1000;
+    private static final int MAX_HEROES = Long.SIZE;
+
+    // Ability kinds
+    private static final int PROTECT = 0;
+    private static final int HEAL = 1;
+    private static final int FIREBALL = 2;
+    private static final int CHAIN_LIGHTNING = 3;
+    private static final int BERSERKER = 4;
+    private static final int REPLENISH = 5;
+
+    // Ability variant flags (meaning depends on kind)
+    private static final int HEAL_ALL = 1;
+    private static final int DOUBLE_DAMAGE = 1;
+    private static final int IMPROVED_CHAIN = 1;
+    private static final int STUN_SPLASH = 1;
+    private static final int HEAL_BEFORE_ATTACK = 2;
+    private static final int DOUBLE_EFFECT = 1;
+
+    // Status effect records: (type, duration, magnitude)
+    private static final int EFFECT_INTS = 3;
+    private static final int STUN = StatusType.STUN.ordinal();
+    private static final int SHIELD = StatusType.SHIELD.ordinal();
+    private static final StatusType[] STATUS_TYPES = StatusType.values();
+
+    private final BattleServiceImpl fallback = new BattleServiceImpl();
+
+    @Override
+    public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB) {
+        return startBattle(teamA, teamB, ThreadLocalRandom.current());
+    }
+
+    @Override
+    public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB, long seed) {
+        return startBattle(teamA, teamB, new SplittableRandom(seed));
+    }
+
+    /** Runs a battle drawing all randomness from {@code random}. */
+    public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB, RandomGenerator random) {
+        Battle battle = Battle.load(teamA, teamB);
+        if (battle == null) return fallback.startBattle(teamA, teamB, random);
+        BattleResult result = battle.run(random);
+        battle.store();
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // Per-battle state
+    // -------------------------------------------------------------------------
+
+    /** All mutable state of one battle. Hero slots: team A is 0..sizeA-1, team B follows. */
+    private static final class Battle {
+        private final Hero[] heroes;
+        private final int sizeA;
+        private final int[] level;
+        private final int[] attack;
+        private final int[] defense;
+        private final int[] maxHealth;
+        private final int[] maxMana;
+        private final int[] health;
+        private final int[] mana;
+        private final int[] shield;
+        private final boolean[] stunned;
+        private long aliveMask;
+        private final long maskA;
+        private final long maskB;
+
+        // Up to two abilities per hero, at slot*2 and slot*2+1
+        private final int[] abilityCount;
+        private final int[] abilityKind;
+        private final int[] abilityFlags;
+        private final int[] abilityCost;
+
+        private final int[][] effects;   // Per hero: packed (type, duration, magnitude) records
+        private final int[] effectCount;
+
+        // Initiative order of each team (hero slots)
+        private final int[] orderA;
+        private final int[] orderB;
+        private final int[] scratch;     // Alive-target list reused by abilities
+
+        private Battle(Hero[] heroes, int sizeA) {
+            int n = heroes.length;
+            this.heroes = heroes;
+            this.sizeA = sizeA;
+            this.level = new int[n];
+            this.attack = new int[n];
+            this.defense = new int[n];
+            this.maxHealth = new int[n];
+            this.maxMana = new int[n];
+            this.health = new int[n];
+            this.mana = new int[n];
+            this.shield = new int[n];
+            this.stunned = new boolean[n];
+            this.abilityCount = new int[n];
+            this.abilityKind = new int[2 * n];
+            this.abilityFlags = new int[2 * n];
+            this.abilityCost = new int[2 * n];
+            this.effects = new int[n][];
+            this.effectCount = new int[n];
+            this.orderA = new int[sizeA];
+            this.orderB = new int[n - sizeA];
+            this.scratch = new int[Math.max(sizeA, n - sizeA)];
+            this.maskA = sizeA == Long.SIZE ? -1L : (1L << sizeA) - 1;
+            this.maskB = (n == Long.SIZE ? -1L : (1L << n) - 1) & ~maskA;
+        }
+
+        /** Copies both teams into arrays, or returns null if they cannot be represented. */
+        static Battle load(List<Hero> teamA, List<Hero> teamB) {
+            int n = teamA.size() + teamB.size();
+            if (n > MAX_HEROES) return null;
+            Hero[] heroes = new Hero[n];
+            for (int i = 0; i < teamA.size(); i++) heroes[i] = teamA.get(i);
+            for (int i = 0; i < teamB.size(); i++) heroes[teamA.size() + i] = teamB.get(i);
+
+            Battle battle = new Battle(heroes, teamA.size());
+            for (int h = 0; h < n; h++) {
+                if (!battle.loadHero(h)) return null;
+            }
+            for (int i = 0; i < battle.orderA.length; i++) battle.orderA[i] = i;
+            for (int i = 0; i < battle.orderB.length; i++) battle.orderB[i] = battle.sizeA + i;
+            return battle;
+        }
+
+        private boolean loadHero(int h) {
+            Hero hero = heroes[h];
+            List<Ability> abilities = hero.getClassAbilities();
+            if (abilities.size() > 2) return false;
+            for (int i = 0; i < abilities.size(); i++) {
+                if (!loadAbility(2 * h + i, abilities.get(i))) return false;
+            }
+            abilityCount[h] = abilities.size();
+
+            level[h] = hero.getLevel();
+            attack[h] = hero.getCurrentAttack();
+            defense[h] = hero.getCurrentDefense();
+            maxHealth[h] = hero.getCurrentMaxHealth();
+            maxMana[h] = hero.getCurrentMaxMana();
+            health[h] = hero.getCurrentHealth();
+            mana[h] = hero.getCurrentMana();
+            shield[h] = hero.getShieldAmount();
+            stunned[h] = hero.isStunned();
+            if (hero.isAlive()) aliveMask |= 1L << h;
+
+            List<StatusEffect> active = hero.getStatusEffects();
+            effects[h] = new int[Math.max(4, active.size() + 2) * EFFECT_INTS];
+            for (StatusEffect effect : active) {
+                appendEffect(h, effect.getType().ordinal(), effect.getDuration(), effect.getMagnitude());
+            }
+            return true;
+        }
+
+        /** Maps a built-in ability to its kind/flags; returns false for unknown abilities. */
+        private boolean loadAbility(int slot, Ability ability) {
+            Class<?> type = ability.getClass();
+            int flags = 0;
+            if (type == Protect.class) {
+                abilityKind[slot] = PROTECT;
+            } else if (type == Heal.class) {
+                abilityKind[slot] = HEAL;
+                if (((Heal) ability).isHealAll()) flags |= HEAL_ALL;
+            } else if (type == Fireball.class) {
+                abilityKind[slot] = FIREBALL;
+                if (((Fireball) ability).isDoubleDamage()) flags |= DOUBLE_DAMAGE;
+            } else if (type == ChainLightning.class) {
+                abilityKind[slot] = CHAIN_LIGHTNING;
+                if (((ChainLightning) ability).isImprovedChain()) flags |= IMPROVED_CHAIN;
+            } else if (type == BerserkerAttack.class) {
+                abilityKind[slot] = BERSERKER;
+                if (((BerserkerAttack) ability).isStunSplash()) flags |= STUN_SPLASH;
+                if (((BerserkerAttack) ability).isHealBeforeAttack()) flags |= HEAL_BEFORE_ATTACK;
+            } else if (type == Replenish.class) {
+                abilityKind[slot] = REPLENISH;
+                if (((Replenish) ability).isDoubleEffect()) flags |= DOUBLE_EFFECT;
+            } else {
+                return false;
+            }
+            abilityFlags[slot] = flags;
+            abilityCost[slot] = ability.getManaCost();
+            return true;
+        }
+
+        /** Writes the final combat state back into the heroes. */
+        void store() {
+            for (int h = 0; h < heroes.length; h++) {
+                List<StatusEffect> active = new ArrayList<>(effectCount[h]);
+                int[] records = effects[h];
+                for (int e = 0; e < effectCount[h]; e++) {
+                    int base = e * EFFECT_INTS;
+                    active.add(new StatusEffect(STATUS_TYPES[records[base]], records[base + 1], records[base + 2]));
+                }
+                heroes[h].setCombatState(health[h], mana[h], shield[h], stunned[h], isAlive(h), active);
+            }
+        }
+
+        // ---------------------------------------------------------------------
+        // Battle loop (mirrors BattleServiceImpl.startBattle)
+        // ---------------------------------------------------------------------
+
+        BattleResult run(RandomGenerator random) {
+            boolean isDraw = false;
+            int turn = 0;
+            boolean sorted = false;
+
+            while ((aliveMask & maskA) != 0 && (aliveMask & maskB) != 0) {
+                tickStatusEffects(orderA);
+                tickStatusEffects(orderB);
+
+                // Level and attack never change mid-battle, so the stable initiative
+                // sort only reorders the teams the first time it runs
+                if (!sorted) {
+                    sortByInitiative(orderA);
+                    sortByInitiative(orderB);
+                    sorted = true;
+                }
+
+                takeTurn(orderA, orderB, maskB, random);
+                takeTurn(orderB, orderA, maskA, random);
+
+                turn++;
+                if (turn > MAX_ROUNDS) {
+                    isDraw = true;
+                    break;
+                }
+            }
+
+            boolean aAlive = (aliveMask & maskA) != 0;
+            boolean bAlive = (aliveMask & maskB) != 0;
+            List<Hero> winningTeam = aAlive ? toList(orderA) : (bAlive ? toList(orderB) : new ArrayList<>());
+            List<Hero> losingTeam = aAlive ? toList(orderB) : toList(orderA);
+            if (isDraw) {
+                winningTeam = new ArrayList<>();
+                losingTeam = new ArrayList<>();
+            }
+            return new BattleResult(winningTeam, losingTeam, isDraw, turn);
+        }
+
+        private List<Hero> toList(int[] order) {
+            List<Hero> team = new ArrayList<>(order.length);
+            for (int h : order) team.add(heroes[h]);
+            return team;
+        }
+
+        /**
+         * Stable insertion sort matching BattleServiceImpl's initiative comparator
+         * (which, being reversed twice, orders by level ascending, then attack descending).
+         */
+        private void sortByInitiative(int[] order) {
+            for (int i = 1; i < order.length; i++) {
+                int h = order[i];
+                int j = i - 1;
+                while (j >= 0 && comesAfter(order[j], h)) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = h;
+            }
+        }
+
+        private boolean comesAfter(int a, int b) {
+            if (level[a] != level[b]) return level[a] > level[b];
+            return attack[a] < attack[b];
+        }
+
+        private void takeTurn(int[] acting, int[] opposing, long opposingMask, RandomGenerator random) {
+            // The AI never chooses WAIT, so there is no deferred-action queue to process
+            for (int h : acting) {
+                if (!isAlive(h)) continue;
+                if (stunned[h]) continue;
+
+                int slot = firstCastable(h);
+                if (slot >= 0) {
+                    cast(h, slot, acting, opposing, random);
+                } else if ((double) health[h] / maxHealth[h] < 0.25) {
+                    heal(h, 10);      // defend
+                    restoreMana(h, 5);
+                } else {
+                    int target = firstAlive(opposing);
+                    if (target >= 0) takeDamage(target, Math.max(0, attack[h] - defense[target]));
+                }
+
+                if ((aliveMask & opposingMask) == 0) break;
+            }
+        }
+
+        private int firstCastable(int h) {
+            for (int i = 0; i < abilityCount[h]; i++) {
+                if (mana[h] >= abilityCost[2 * h + i]) return 2 * h + i;
+            }
+            return -1;
+        }
+
+        private int firstAlive(int[] team) {
+            for (int h : team) {
+                if (isAlive(h)) return h;
+            }
+            return -1;
+        }
+
+        // ---------------------------------------------------------------------
+        // Abilities (mirror the model.ability classes)
+        // ---------------------------------------------------------------------
+
+        private void cast(int caster, int slot, int[] allies, int[] enemies, RandomGenerator random) {
+            mana[caster] -= abilityCost[slot];
+            int flags = abilityFlags[slot];
+            switch (abilityKind[slot]) {
+                case PROTECT:
+                    for (int h : allies) {
+                        if (isAlive(h)) addEffect(h, SHIELD, 1, (int) (maxHealth[h] * 0.10));
+                    }
+                    break;
+                case HEAL:
+                    castHeal(allies, (flags & HEAL_ALL) != 0);
+                    break;
+                case FIREBALL:
+                    castFireball(caster, enemies, (flags & DOUBLE_DAMAGE) != 0);
+                    break;
+                case CHAIN_LIGHTNING:
+                    castChainLightning(caster, enemies, (flags & IMPROVED_CHAIN) != 0, random);
+                    break;
+                case BERSERKER:
+                    castBerserker(caster, enemies, flags, random);
+                    break;
+                case REPLENISH:
+                    boolean doubleEffect = (flags & DOUBLE_EFFECT) != 0;
+                    int alliesAmount = doubleEffect ? 60 : 30;
+                    int selfAmount = doubleEffect ? 120 : 60;
+                    // The caster is always on the ally team, so no separate self top-up
+                    for (int h : allies) {
+                        if (isAlive(h)) restoreMana(h, h == caster ? selfAmount : alliesAmount);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown ability kind " + abilityKind[slot]);
+            }
+        }
+
+        private void castHeal(int[] allies, boolean healAll) {
+            if (healAll) {
+                for (int h : allies) {
+                    if (isAlive(h)) heal(h, (int) (maxHealth[h] * 0.25));
+                }
+                return;
+            }
+            int lowest = -1;
+            for (int h : allies) {
+                if (!isAlive(h)) continue;
+                if (lowest < 0 || health[h] < health[lowest]) lowest = h;
+            }
+            if (lowest >= 0) heal(lowest, (int) (maxHealth[lowest] * 0.25));
+        }
+
+        private void castFireball(int caster, int[] enemies, boolean doubleDamage) {
+            int alive = collectAlive(enemies);
+            int hits = Math.min(3, alive);
+            for (int i = 0; i < hits; i++) {
+                int target = scratch[i];
+                int rawDamage = Math.max(0, attack[caster] - defense[target]);
+                takeDamage(target, doubleDamage ? rawDamage * 2 : rawDamage);
+            }
+        }
+
+        private void castChainLightning(int caster, int[] enemies, boolean improved, RandomGenerator random) {
+            int alive = collectAlive(enemies);
+            if (alive == 0) return;
+            // Shuffle everything after the primary target, same draws as ChainLightning.shuffle
+            for (int i = alive - 1; i > 1; i--) {
+                int j = 1 + random.nextInt(i);
+                int tmp = scratch[i];
+                scratch[i] = scratch[j];
+                scratch[j] = tmp;
+            }
+            double carryOver = improved ? 0.50 : 0.25;
+            double currentDamage = Math.max(0, attack[caster] - defense[scratch[0]]);
+            for (int i = 0; i < alive; i++) {
+                takeDamage(scratch[i], (int) currentDamage);
+                currentDamage *= carryOver;
+                if (currentDamage < 1) break;
+            }
+        }
+
+        private void castBerserker(int caster, int[] enemies, int flags, RandomGenerator random) {
+            if (enemies.length == 0) return;
+            if ((flags & HEAL_BEFORE_ATTACK) != 0) heal(caster, (int) (maxHealth[caster] * 0.10));
+            int alive = collectAlive(enemies);
+            if (alive == 0) return;
+
+            int primary = scratch[0];
+            int primaryDamage = Math.max(0, attack[caster] - defense[primary]);
+            takeDamage(primary, primaryDamage);
+
+            int splashDamage = (int) (primaryDamage * 0.25);
+            int splashCount = 0;
+            for (int i = 1; i < alive && splashCount < 2; i++) {
+                int target = scratch[i];
+                takeDamage(target, splashDamage);
+                if ((flags & STUN_SPLASH) != 0 && random.nextDouble() < 0.50) {
+                    addEffect(target, STUN, 1, 0);
+                }
+                splashCount++;
+            }
+        }
+
+        /** Fills {@code scratch} with the alive heroes of {@code team}, in order; returns the count. */
+        private int collectAlive(int[] team) {
+            int count = 0;
+            for (int h : team) {
+                if (isAlive(h)) scratch[count++] = h;
+            }
+            return count;
+        }
+
+        // ---------------------------------------------------------------------
+        // Hero state primitives (mirror Hero)
+        // ---------------------------------------------------------------------
+
+        private boolean isAlive(int h) {
+            return (aliveMask & (1L << h)) != 0;
+        }
+
+        private void takeDamage(int h, int damage) {
+            if (shield[h] > 0) {
+                int absorbed = Math.min(shield[h], damage);
+                shield[h] -= absorbed;
+                damage -= absorbed;
+            }
+            health[h] -= damage;
+            if (health[h] <= 0) {
+                health[h] = 0;
+                aliveMask &= ~(1L << h);
+            }
+        }
+
+        private void heal(int h, int amount) {
+            health[h] = Math.min(health[h] + amount, maxHealth[h]);
+        }
+
+        private void restoreMana(int h, int amount) {
+            mana[h] = Math.min(mana[h] + amount, maxMana[h]);
+        }
+
+        private void addEffect(int h, int type, int duration, int magnitude) {
+            appendEffect(h, type, duration, magnitude);
+            if (type == STUN) stunned[h] = true;
+            else if (type == SHIELD) shield[h] += magnitude;
+        }
+
+        private void appendEffect(int h, int type, int duration, int magnitude) {
+            int base = effectCount[h] * EFFECT_INTS;
+            if (base + EFFECT_INTS > effects[h].length) {
+                effects[h] = Arrays.copyOf(effects[h], effects[h].length * 2);
+            }
+            effects[h][base] = type;
+            effects[h][base + 1] = duration;
+            effects[h][base + 2] = magnitude;
+            effectCount[h]++;
+        }
+
+        private void tickStatusEffects(int[] team) {
+            for (int h : team) {
+                if (!isAlive(h) || effectCount[h] == 0) continue;
+                int[] records = effects[h];
+                int kept = 0;
+                for (int e = 0; e < effectCount[h]; e++) {
+                    int base = e * EFFECT_INTS;
+                    int duration = --records[base + 1];
+                    if (duration <= 0) {
+                        if (records[base] == STUN) stunned[h] = false;
+                        continue; // expired: drop the record
+                    }
+                    if (kept != e) System.arraycopy(records, base, records, kept * EFFECT_INTS, EFFECT_INTS);
+                    kept++;
+                }
+                effectCount[h] = kept;
+            }
+        }
+    }
+}
@@ -2,14 +2,25 @@ package service.impl;
 
 import service.BattleService;
 import model.Ability;
+import model.Action;
+import model.BattleEventLog;
+import model.BattleMetrics;
+import model.BattleTeam;
 import model.Hero;
 import model.BattleResult;
+import model.HeroEventListener;
+import model.StatusType;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementation of BattleService. Orchestrates the battle flow between teams.
@@ -18,14 +29,105 @@ import java.util.Queue;
  */
 public class BattleServiceImpl implements BattleService {
 
+    /** Initiative order used to sort each team; built once and shared. */
+    private static final Comparator<Hero> INITIATIVE = Comparator
+            .comparingInt(Hero::getLevel).reversed()
+            .thenComparingInt(Hero::getCurrentAttack).reversed();
+
+    private static final Action[] ACTIONS = Action.values();
+
+    private final BattleMetrics metrics; // Null when disabled: nothing is timed, counted or attached
+
+    public BattleServiceImpl() {
+        this(null);
+    }
+
+    /**
+     * @param metrics Counters every battle run by this service records into, or null
+     *                to disable metrics. Disabled metrics cost one null check per action
+     *                and nothing else: no clock reads, map lookups or listeners.
+     */
+    public BattleServiceImpl(BattleMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /** The counters this service records into, or null when metrics are disabled. */
+    public BattleMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB) {
-        List<Hero> teamACopy = new ArrayList<>(teamA);
-        List<Hero> teamBCopy = new ArrayList<>(teamB);
+        return startBattle(teamA, teamB, ThreadLocalRandom.current());
+    }
+
+    @Override
+    public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB, long seed) {
+        return startBattle(teamA, teamB, new SplittableRandom(seed));
+    }
+
+    /**
+     * Runs a battle drawing all randomness from {@code random}. The source is confined
+     * to this battle, so parallel battles with their own sources never contend.
+     */
+    public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB, RandomGenerator random) {
+        return startBattle(teamA, teamB, random, null);
+    }
+
+    /**
+     * Runs a battle and, when {@code log} is non-null, records every event into it.
+     * The log is cleared first and can be reused for the next battle; it is attached
+     * to the result via {@link BattleResult#getEventLog()}.
+     */
+    public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB, RandomGenerator random,
+                                    BattleEventLog log) {
+        if (log == null) return runBattle(teamA, teamB, random, null);
+        log.attach(teamA, teamB);
+        try {
+            BattleResult result = runBattle(teamA, teamB, random, log);
+            result.setEventLog(log);
+            return result;
+        } finally {
+            log.detach();
+        }
+    }
+
+    private BattleResult runBattle(List<Hero> teamA, List<Hero> teamB, RandomGenerator random,
+                                   BattleEventLog log) {
+        // Per-battle team state: own ordering (callers' lists are never reordered)
+        // plus incremental alive tracking
+        BattleTeam teamACopy = new BattleTeam(teamA);
+        BattleTeam teamBCopy = new BattleTeam(teamB);
+        if (metrics == null) {
+            try {
+                return fight(teamACopy, teamBCopy, random, log, null);
+            } finally {
+                teamACopy.release();
+                teamBCopy.release();
+            }
+        }
+        // Attached after the event log (if any) so both see every hit
+        BattleTally tally = new BattleTally(teamACopy, teamBCopy);
+        long start = System.nanoTime();
+        try {
+            BattleResult result = fight(teamACopy, teamBCopy, random, log, tally);
+            tally.publish(metrics, result, System.nanoTime() - start);
+            return result;
+        } finally {
+            tally.detach();
+            teamACopy.release();
+            teamBCopy.release();
+        }
+    }
+
+    private BattleResult fight(BattleTeam teamACopy, BattleTeam teamBCopy, RandomGenerator random,
+                               BattleEventLog log, BattleTally tally) {
         boolean isDraw = false;
         int turn = 0;
 
-        while (isTeamAlive(teamACopy) && isTeamAlive(teamBCopy)) {
+        while (teamACopy.hasAlive() && teamBCopy.hasAlive()) {
+            if (log != null) log.roundStart(turn + 1);
+
             // Tick status effects at the start of each round
             tickStatusEffects(teamACopy);
             tickStatusEffects(teamBCopy);
@@ -35,8 +137,8 @@ public class BattleServiceImpl implements BattleService {
             sortByInitiative(teamBCopy);
 
             // Teams alternate — teamA hero acts, then teamB hero, etc.
-            takeTurn(teamACopy, teamBCopy);
-            takeTurn(teamBCopy, teamACopy);
+            takeTurn(teamACopy, teamBCopy, random, log, tally);
+            takeTurn(teamBCopy, teamACopy, random, log, tally);
 
             turn++;
             if (turn > 1000) {
@@ -45,16 +147,16 @@ public class BattleServiceImpl implements BattleService {
             }
         }
 
-        List<Hero> winningTeam = isTeamAlive(teamACopy)
-                ? teamACopy
-                : (isTeamAlive(teamBCopy) ? teamBCopy : new ArrayList<>());
-        List<Hero> losingTeam = isTeamAlive(teamACopy) ? teamBCopy : teamACopy;
+        List<Hero> winningTeam = teamACopy.hasAlive()
+                ? new ArrayList<>(teamACopy)
+                : (teamBCopy.hasAlive() ? new ArrayList<>(teamBCopy) : new ArrayList<>());
+        List<Hero> losingTeam = new ArrayList<>(teamACopy.hasAlive() ? teamBCopy : teamACopy);
 
         if (isDraw) {
             winningTeam = new ArrayList<>();
             losingTeam  = new ArrayList<>();
         }
-        return new BattleResult(winningTeam, losingTeam, isDraw);
+        return new BattleResult(winningTeam, losingTeam, isDraw, turn);
     }
 
     // -------------------------------------------------------------------------
@@ -66,14 +168,21 @@ public class BattleServiceImpl implements BattleService {
      * Heroes who choose WAIT are deferred and act at the end in FIFO order.
      * Stunned heroes are skipped and have their stun cleared for next turn.
      */
-    private void takeTurn(List<Hero> actingTeam, List<Hero> opposingTeam) {
-        Queue<Hero> waitQueue = new LinkedList<>();
+    private void takeTurn(BattleTeam actingTeam, BattleTeam opposingTeam, RandomGenerator random,
+                          BattleEventLog log, BattleTally tally) {
+        Queue<Hero> waitQueue = null; // Only allocated if someone actually waits
 
-        for (Hero hero : actingTeam) {
+        for (int i = 0; i < actingTeam.size(); i++) {
+            Hero hero = actingTeam.get(i);
             if (!hero.isAlive()) continue;
             if (hero.isStunned()) continue; // skip stunned heroes entirely this turn
 
             Action action = decideAction(hero, opposingTeam);
+            // Casts are logged by performCast, which knows the ability slot
+            if (action != Action.CAST) {
+                if (log != null) log.action(hero, action, -1);
+                if (tally != null) tally.actions[action.ordinal()]++;
+            }
 
             switch (action) {
                 case ATTACK:
@@ -83,22 +192,25 @@ public class BattleServiceImpl implements BattleService {
                     hero.defend();
                     break;
                 case CAST:
-                    performCast(hero, actingTeam, opposingTeam);
+                    performCast(hero, actingTeam, opposingTeam, random, log, tally);
                     break;
                 case WAIT:
                     hero.waitTurn();
+                    if (waitQueue == null) waitQueue = new ArrayDeque<>();
                     waitQueue.add(hero);
                     break;
             }
 
             // Stop if the opposing team has been wiped out mid-turn
-            if (!isTeamAlive(opposingTeam)) break;
+            if (!opposingTeam.hasAlive()) break;
         }
 
         // Process deferred (waiting) heroes in FIFO order
-        while (!waitQueue.isEmpty()) {
+        while (waitQueue != null && !waitQueue.isEmpty()) {
             Hero hero = waitQueue.poll();
-            if (!hero.isAlive() || !isTeamAlive(opposingTeam)) break;
+            if (!hero.isAlive() || !opposingTeam.hasAlive()) break;
+            if (log != null) log.action(hero, Action.ATTACK, -1);
+            if (tally != null) tally.actions[Action.ATTACK.ordinal()]++;
             performAttack(hero, opposingTeam); // Waiting heroes default to attacking
         }
     }
@@ -130,24 +242,31 @@ public class BattleServiceImpl implements BattleService {
     // -------------------------------------------------------------------------
 
     /** Attacks the first alive enemy target. */
-    private void performAttack(Hero hero, List<Hero> enemies) {
-        Hero target = getFirstAliveTarget(enemies);
+    private void performAttack(Hero hero, BattleTeam enemies) {
+        Hero target = enemies.firstAlive();
         if (target != null) {
             hero.attack(target);
         }
     }
 
     /** Casts the first ability the hero has enough mana for. */
-    private void performCast(Hero hero, List<Hero> allies, List<Hero> enemies) {
-        for (Ability ability : hero.getClassAbilities()) {
+    private void performCast(Hero hero, BattleTeam allies, BattleTeam enemies, RandomGenerator random,
+                             BattleEventLog log, BattleTally tally) {
+        List<Ability> abilities = hero.getClassAbilities();
+        for (int slot = 0; slot < abilities.size(); slot++) {
+            Ability ability = abilities.get(slot);
             if (hero.canCast(ability)) {
+                if (log != null) log.action(hero, Action.CAST, slot);
+                if (tally != null) tally.cast(ability);
                 // Healing/support abilities target allies; damage abilities target enemies
                 List<Hero> targets = isSupportAbility(ability) ? allies : enemies;
-                hero.castAbility(ability, targets);
+                hero.castAbility(ability, targets, random);
                 return;
             }
         }
         // Fallback: if somehow nothing can be cast, attack instead
+        if (log != null) log.action(hero, Action.ATTACK, -1);
+        if (tally != null) tally.actions[Action.ATTACK.ordinal()]++;
         performAttack(hero, enemies);
     }
 
@@ -164,39 +283,109 @@ public class BattleServiceImpl implements BattleService {
     // Helpers
     // -------------------------------------------------------------------------
 
-    private boolean isTeamAlive(List<Hero> team) {
-        for (Hero hero : team) {
-            if (hero.isAlive()) return true;
-        }
-        return false;
-    }
-
-    /** Returns the first alive hero in the list, or null if none. */
-    private Hero getFirstAliveTarget(List<Hero> team) {
-        for (Hero hero : team) {
-            if (hero.isAlive()) return hero;
-        }
-        return null;
-    }
-
-    /** Sorts descending by level, then by attack as a tiebreaker. */
-    private void sortByInitiative(List<Hero> team) {
-        team.sort(Comparator
-                .comparingInt(Hero::getLevel).reversed()
-                .thenComparingInt(Hero::getCurrentAttack).reversed());
+    /**
+     * Sorts by level, then by attack as a tiebreaker. The team only actually re-sorts
+     * when a member's level or attack changed since the previous round.
+     */
+    private void sortByInitiative(BattleTeam team) {
+        team.sortIfDirty(INITIATIVE);
     }
 
     /** Ticks status effects for all alive heroes on a team. */
-    private void tickStatusEffects(List<Hero> team) {
-        for (Hero hero : team) {
+    private void tickStatusEffects(BattleTeam team) {
+        for (int i = 0; i < team.size(); i++) {
+            Hero hero = team.get(i);
             if (hero.isAlive()) hero.processStatusEffects();
         }
     }
 
     // -------------------------------------------------------------------------
-    // Action enum
+    // Metrics
     // -------------------------------------------------------------------------
 
-    private enum Action { ATTACK, DEFEND, CAST, WAIT }
-}
+    /**
+     * Per-battle tally, confined to the battle's thread and published to the shared
+     * {@link BattleMetrics} once at the end, so the lock-free counters are touched a
+     * handful of times per battle rather than per action. Casts are counted per
+     * ability name in a small map that only exists once something has been cast. Shield absorption is caught
+     * by a listener on each hero that forwards to the listener it replaced (e.g. the
+     * event log's), since a hero holds only one.
+     */
+    private static final class BattleTally {
+        final int[] actions = new int[ACTIONS.length];
+        private Map<String, int[]> casts; // Ability name -> casts this battle; null until the first cast
+        private final List<Hero> heroes = new ArrayList<>();
+        private final List<HeroEventListener> replaced = new ArrayList<>();
+        private long shieldAbsorbed;
 
+        BattleTally(BattleTeam teamA, BattleTeam teamB) {
+            attach(teamA);
+            attach(teamB);
+        }
+
+        private void attach(BattleTeam team) {
+            for (int i = 0; i < team.size(); i++) {
+                Hero hero = team.get(i);
+                HeroEventListener previous = hero.getEventListener();
+                heroes.add(hero);
+                replaced.add(previous);
+                hero.setEventListener(new ShieldListener(previous));
+            }
+        }
+
+        void cast(Ability ability) {
+            actions[Action.CAST.ordinal()]++;
+            if (casts == null) casts = new HashMap<>();
+            int[] count = casts.get(ability.getName());
+            if (count == null) {
+                count = new int[1];
+                casts.put(ability.getName(), count);
+            }
+            count[0]++;
+        }
+
+        /** Restores every hero's original listener. */
+        void detach() {
+            for (int i = 0; i < heroes.size(); i++) heroes.get(i).setEventListener(replaced.get(i));
+        }
+
+        void publish(BattleMetrics metrics, BattleResult result, long nanos) {
+            for (int i = 0; i < actions.length; i++) metrics.recordActions(ACTIONS[i], actions[i]);
+            if (casts != null) {
+                for (Map.Entry<String, int[]> entry : casts.entrySet()) {
+                    metrics.recordCasts(entry.getKey(), entry.getValue()[0]);
+                }
+            }
+            metrics.recordBattle(result.getRounds(), nanos, result.isDraw(), shieldAbsorbed);
+        }
+
+        private final class ShieldListener implements HeroEventListener {
+            private final HeroEventListener next;
+
+            ShieldListener(HeroEventListener next) {
+                this.next = next;
+            }
+
+            @Override
+            public void onDamageTaken(Hero hero, int damage, int absorbed) {
+                shieldAbsorbed += absorbed;
+                if (next != null) next.onDamageTaken(hero, damage, absorbed);
+            }
+
+            @Override
+            public void onDeath(Hero hero) {
+                if (next != null) next.onDeath(hero);
+            }
+
+            @Override
+            public void onStatusApplied(Hero hero, StatusType type) {
+                if (next != null) next.onStatusApplied(hero, type);
+            }
+
+            @Override
+            public void onStatusExpired(Hero hero, StatusType type) {
+                if (next != null) next.onStatusExpired(hero, type);
+            }
+        }
+    }
+}
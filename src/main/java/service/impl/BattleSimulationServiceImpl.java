@@ -0,0 +1,195 @@
+package service.impl;
+
+import service.BattleService;
+import service.BattleSimulationService;
+import model.BattleResult;
+import model.Hero;
+import model.Seeds;
+import model.SimulationResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of BattleSimulationService.
+ *
+ * The iteration count is split into a few chunks per available worker. Each chunk
+ * runs its battles sequentially on its own copies of the templates and tallies into
+ * a private accumulator; the accumulators are merged once all chunks finish, so the
+ * workers share nothing while running. The battle service must be stateless
+ * (as {@link BattleServiceImpl} is) since it is called from every worker.
+ *
+ * Run {@code i} is fought with a battle seed derived from the master seed and
+ * {@code i} alone, so results do not depend on the chunking or thread count and
+ * no random state is shared between workers.
+ *
+ * If a run fails, chunks not yet started are cancelled and running ones stop before
+ * their next battle, so a failed simulation does not keep occupying the executor.
+ */
+public class BattleSimulationServiceImpl implements BattleSimulationService {
+
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final BattleService battleService;
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    /** Runs simulations on the common fork/join pool. */
+    public BattleSimulationServiceImpl() {
+        this(new BattleServiceImpl(), ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * @param battleService Stateless battle engine used for every run
+     * @param executor      Executor the chunks are submitted to (not shut down by this class)
+     * @param parallelism   Number of workers the executor provides; used to size the chunks
+     */
+    public BattleSimulationServiceImpl(BattleService battleService, ExecutorService executor, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be positive");
+        this.battleService = battleService;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public SimulationResult simulate(List<Hero> teamA, List<Hero> teamB, int iterations) {
+        return simulate(teamA, teamB, iterations, ThreadLocalRandom.current().nextLong());
+    }
+
+    @Override
+    public SimulationResult simulate(List<Hero> teamA, List<Hero> teamB, int iterations, long seed) {
+        if (iterations <= 0) throw new IllegalArgumentException("iterations must be positive");
+        if (teamA.isEmpty() || teamB.isEmpty()) throw new IllegalArgumentException("teams must not be empty");
+
+        // Copy the templates once so concurrent callers mutating their lists cannot affect the runs
+        List<Hero> templatesA = copyTeam(teamA);
+        List<Hero> templatesB = copyTeam(teamB);
+
+        int chunks = Math.min(iterations, parallelism * CHUNKS_PER_WORKER);
+        List<Future<Tally>> futures = new ArrayList<>(chunks);
+        AtomicBoolean aborted = new AtomicBoolean();
+        int firstRun = 0;
+        for (int c = 0; c < chunks; c++) {
+            // Spread the remainder over the first chunks
+            int runs = iterations / chunks + (c < iterations % chunks ? 1 : 0);
+            int start = firstRun;
+            futures.add(executor.submit(() -> runChunk(templatesA, templatesB, start, runs, seed, aborted)));
+            firstRun += runs;
+        }
+
+        Tally total = new Tally(templatesA.size(), templatesB.size());
+        try {
+            for (Future<Tally> future : futures) {
+                total.merge(await(future));
+            }
+        } catch (RuntimeException e) {
+            aborted.set(true);
+            for (Future<Tally> future : futures) future.cancel(false);
+            throw e;
+        }
+        return total.toResult(iterations);
+    }
+
+    // -------------------------------------------------------------------------
+    // Chunk execution
+    // -------------------------------------------------------------------------
+
+    /**
+     * Runs battles {@code start .. start+runs-1} sequentially on fresh copies of the
+     * templates, stopping early once another chunk has failed.
+     */
+    private Tally runChunk(List<Hero> templatesA, List<Hero> templatesB, int start, int runs, long seed,
+                           AtomicBoolean aborted) {
+        Tally tally = new Tally(templatesA.size(), templatesB.size());
+        try {
+            for (int i = start; i < start + runs && !aborted.get(); i++) {
+                List<Hero> copyA = copyTeam(templatesA);
+                List<Hero> copyB = copyTeam(templatesB);
+                BattleResult result = battleService.startBattle(copyA, copyB, Seeds.derive(seed, i));
+                tally.record(result, copyA, copyB);
+            }
+        } catch (RuntimeException | Error e) {
+            aborted.set(true);
+            throw e;
+        }
+        return tally;
+    }
+
+    private static List<Hero> copyTeam(List<Hero> team) {
+        List<Hero> copy = new ArrayList<>(team.size());
+        for (Hero hero : team) copy.add(new Hero(hero));
+        return copy;
+    }
+
+    private static Tally await(Future<Tally> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Per-chunk accumulator
+    // -------------------------------------------------------------------------
+
+    /** Mutable, single-threaded counters for one chunk of runs. */
+    private static final class Tally {
+        private long teamAWins;
+        private long teamBWins;
+        private long draws;
+        private long totalRounds;
+        private final long[] teamASurvivals;
+        private final long[] teamBSurvivals;
+
+        Tally(int sizeA, int sizeB) {
+            this.teamASurvivals = new long[sizeA];
+            this.teamBSurvivals = new long[sizeB];
+        }
+
+        void record(BattleResult result, List<Hero> teamA, List<Hero> teamB) {
+            totalRounds += result.getRounds();
+            if (result.isDraw()) {
+                draws++;
+            } else if (result.getWinningTeam().contains(teamA.get(0))) {
+                teamAWins++;
+            } else if (result.getWinningTeam().contains(teamB.get(0))) {
+                teamBWins++;
+            } else {
+                draws++; // Both sides wiped out in the same turn
+            }
+            countSurvivors(teamA, teamASurvivals);
+            countSurvivors(teamB, teamBSurvivals);
+        }
+
+        private static void countSurvivors(List<Hero> team, long[] survivals) {
+            for (int i = 0; i < survivals.length; i++) {
+                if (team.get(i).isAlive()) survivals[i]++;
+            }
+        }
+
+        void merge(Tally other) {
+            teamAWins += other.teamAWins;
+            teamBWins += other.teamBWins;
+            draws += other.draws;
+            totalRounds += other.totalRounds;
+            for (int i = 0; i < teamASurvivals.length; i++) teamASurvivals[i] += other.teamASurvivals[i];
+            for (int i = 0; i < teamBSurvivals.length; i++) teamBSurvivals[i] += other.teamBSurvivals[i];
+        }
+
+        SimulationResult toResult(int iterations) {
+            return new SimulationResult(iterations, teamAWins, teamBWins, draws,
+                    totalRounds, teamASurvivals, teamBSurvivals);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package service.impl;
+
+import model.BattleResult;
+import model.BattleRewards;
+import model.Campaign;
+import model.EncounterTable;
+import model.Hero;
+import model.RoomResult;
+import model.RoomType;
+import service.BattleService;
+import service.CampaignController;
+import service.EnemyGenerator;
+import service.InnService;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of CampaignController (UC6).
+ *
+ * The controller keeps no per-player state, so the single shared instance
+ * ({@link #getInstance()}, DP4) can run rooms for any number of players at once.
+ * Each room draws from its own random stream, derived from the campaign seed and
+ * the room index, so enemies are generated only when their room is entered and a
+ * campaign replays identically from the same seed.
+ *
+ * Every room is timed; the time is recorded in the {@link Campaign} and summed into
+ * controller-wide counters (LongAdders, so concurrent players do not contend).
+ */
+public class CampaignControllerImpl implements CampaignController {
+
+    private static final int GOLD_LOSS_PERCENT = 10;
+    private static final int EXP_LOSS_PERCENT = 30;
+
+    private static final class Holder {
+        static final CampaignControllerImpl INSTANCE = new CampaignControllerImpl();
+    }
+
+    private final BattleService battleService;
+    private final EnemyGenerator enemyGenerator;
+    private final InnService innService;
+
+    private final LongAdder battleRooms = new LongAdder();
+    private final LongAdder innRooms = new LongAdder();
+    private final LongAdder battleNanos = new LongAdder();
+    private final LongAdder innNanos = new LongAdder();
+
+    /** The shared controller (lazily created, thread-safe). */
+    public static CampaignControllerImpl getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private CampaignControllerImpl() {
+        this(new BattleServiceImpl(), new TemplateEnemyGenerator(), new InnServiceImpl());
+    }
+
+    /**
+     * Creates a separate controller, e.g. with another battle engine or in tests.
+     * @param battleService  Stateless battle engine shared by all rooms
+     * @param enemyGenerator Generator for the enemy parties
+     */
+    public CampaignControllerImpl(BattleService battleService, EnemyGenerator enemyGenerator) {
+        this(battleService, enemyGenerator, new InnServiceImpl());
+    }
+
+    /**
+     * @param battleService  Stateless battle engine shared by all rooms
+     * @param enemyGenerator Generator for the enemy parties
+     * @param innService     Inn run on arrival at inn rooms
+     */
+    public CampaignControllerImpl(BattleService battleService, EnemyGenerator enemyGenerator, InnService innService) {
+        this.battleService = battleService;
+        this.enemyGenerator = enemyGenerator;
+        this.innService = innService;
+    }
+
+    @Override
+    public Campaign startCampaign(List<Hero> party, long seed) {
+        return new Campaign(party, seed);
+    }
+
+    @Override
+    public RoomResult enterNextRoom(Campaign campaign) {
+        if (campaign.isFinished()) throw new IllegalStateException("Campaign already finished");
+        long start = System.nanoTime();
+        int room = campaign.getNextRoom();
+        SplittableRandom random = new SplittableRandom(campaign.roomSeed(room));
+
+        RoomType type = EncounterTable.drawRoom(campaign.getCumulativeLevel(), random);
+        RoomResult result;
+        if (type == RoomType.BATTLE) {
+            result = fight(campaign, room, random, start);
+            battleRooms.increment();
+            battleNanos.add(result.getElapsedNanos());
+        } else {
+            innService.visitInn(campaign);
+            long elapsed = System.nanoTime() - start;
+            result = new RoomResult(room, RoomType.INN, null, false, 0, 0, elapsed);
+            innRooms.increment();
+            innNanos.add(elapsed);
+        }
+        campaign.completeRoom(type, result.getElapsedNanos());
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // Metrics
+    // -------------------------------------------------------------------------
+
+    /** Battle rooms entered through this controller. */
+    public long getBattleRooms() {
+        return battleRooms.sum();
+    }
+
+    /** Inn rooms entered through this controller. */
+    public long getInnRooms() {
+        return innRooms.sum();
+    }
+
+    /** Mean processing time of a battle room, in nanoseconds (0 before the first one). */
+    public long getMeanBattleRoomNanos() {
+        long rooms = battleRooms.sum();
+        return rooms == 0 ? 0 : battleNanos.sum() / rooms;
+    }
+
+    /** Mean processing time of an inn room, in nanoseconds (0 before the first one). */
+    public long getMeanInnRoomNanos() {
+        long rooms = innRooms.sum();
+        return rooms == 0 ? 0 : innNanos.sum() / rooms;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private RoomResult fight(Campaign campaign, int room, SplittableRandom random, long start) {
+        List<Hero> party = campaign.getParty();
+        List<Hero> enemies = enemyGenerator.generate(campaign.getCumulativeLevel(), random);
+        BattleResult battle = battleService.startBattle(party, enemies, random.nextLong());
+
+        boolean won = false;
+        for (Hero hero : party) won |= hero.isAlive();
+        won &= !battle.isDraw();
+
+        int experience = 0;
+        long goldChange = 0;
+        if (won) {
+            experience = BattleRewards.experienceFor(BattleRewards.levelsOf(enemies));
+            goldChange = BattleRewards.award(battle);
+            campaign.addGold(goldChange);
+        } else if (!battle.isDraw()) {
+            goldChange = -campaign.getGold() * GOLD_LOSS_PERCENT / 100;
+            campaign.addGold(goldChange);
+            // Back at the last inn: the penalty is paid and the party is restored there
+            for (Hero hero : party) {
+                hero.loseExperience(hero.getExperience() * EXP_LOSS_PERCENT / 100);
+                hero.revive();
+            }
+        }
+        return new RoomResult(room, RoomType.BATTLE, battle, won, experience, goldChange, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,130 @@
+package service.impl;
+
+import model.Campaign;
+import model.Hero;
+import model.HeroClass;
+import model.Item;
+import model.Purchase;
+import service.InnService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Implementation of InnService.
+ *
+ * A basket is settled in two steps: its total price is spent with one atomic
+ * compare-and-set on the campaign's gold (so concurrent sessions of one player can
+ * never overspend, and no lock is held), then the items' HP, mana and revive
+ * effects are summed per hero and applied in a single pass over the party.
+ *
+ * The class and level of an inn's recruits are derived from the campaign seed and
+ * the room, so a campaign replays identically from the same seed. Every (class,
+ * level) recruit is built once as a template, as {@link TemplateEnemyGenerator}
+ * does for enemies, and an offered recruit is a named copy of it.
+ */
+public class InnServiceImpl implements InnService {
+
+    private static final HeroClass[] RECRUIT_CLASSES = {HeroClass.ORDER, HeroClass.CHAOS, HeroClass.WARRIOR, HeroClass.MAGE};
+    private static final int MAX_RECRUIT_LEVEL = 4;
+    private static final int MAX_RECRUITS = 3;
+    private static final long RECRUIT_SALT = 0x5EED1A7E5EED1A7EL; // Keeps recruit draws apart from the room's stream
+
+    // Indexed by [class][level - 1]; never handed out, only copied
+    private static final Hero[][] RECRUIT_TEMPLATES = buildRecruitTemplates();
+
+    @Override
+    public void visitInn(Campaign campaign) {
+        for (Hero hero : campaign.getParty()) hero.revive();
+        int room = campaign.getNextRoom();
+        if (room >= RECRUIT_ROOMS || campaign.getParty().size() >= Campaign.MAX_PARTY_SIZE) {
+            campaign.setRecruits(Collections.emptyList());
+            return;
+        }
+        SplittableRandom random = new SplittableRandom(campaign.roomSeed(room) ^ RECRUIT_SALT);
+        int count = 1 + random.nextInt(MAX_RECRUITS);
+        List<Hero> recruits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int heroClass = random.nextInt(RECRUIT_CLASSES.length);
+            int level = 1 + random.nextInt(MAX_RECRUIT_LEVEL);
+            recruits.add(new Hero("Recruit " + (i + 1), RECRUIT_TEMPLATES[heroClass][level - 1]));
+        }
+        campaign.setRecruits(recruits);
+    }
+
+    @Override
+    public boolean purchase(Campaign campaign, List<Purchase> basket) {
+        List<Hero> party = campaign.getParty();
+        int[] health = new int[party.size()];
+        int[] mana = new int[party.size()];
+        boolean[] revive = new boolean[party.size()];
+        long total = 0;
+        long points = 0;
+        for (Purchase purchase : basket) {
+            int index = indexOf(party, purchase.getTarget());
+            Item item = purchase.getItem();
+            health[index] += item.getHealth();
+            mana[index] += item.getMana();
+            revive[index] |= item.isRevive();
+            total += item.getPrice();
+            points += item.getScorePoints();
+        }
+        if (!campaign.trySpendGold(total)) return false;
+
+        for (int i = 0; i < health.length; i++) {
+            Hero hero = party.get(i);
+            if (revive[i]) hero.revive();
+            if (health[i] > 0) hero.heal(health[i]);
+            if (mana[i] > 0) hero.restoreMana(mana[i]);
+        }
+        campaign.addItemPoints(points);
+        return true;
+    }
+
+    @Override
+    public boolean recruit(Campaign campaign, Hero recruit) {
+        if (campaign.getParty().size() >= Campaign.MAX_PARTY_SIZE) {
+            throw new IllegalStateException("The party is full");
+        }
+        // Secure the hero before charging: of two sessions hiring the same recruit,
+        // exactly one gets it and only that one pays
+        if (!campaign.takeRecruit(recruit)) {
+            throw new IllegalStateException("Hero is not on offer: " + recruit.getName());
+        }
+        long price = InnService.recruitPrice(recruit.getLevel());
+        if (!campaign.trySpendGold(price)) {
+            campaign.returnRecruit(recruit);
+            return false;
+        }
+        try {
+            campaign.addHero(recruit);
+        } catch (IllegalStateException e) {
+            // Another session filled the party meanwhile
+            campaign.addGold(price);
+            campaign.returnRecruit(recruit);
+            throw e;
+        }
+        return true;
+    }
+
+    private static int indexOf(List<Hero> party, Hero hero) {
+        for (int i = 0; i < party.size(); i++) {
+            if (party.get(i) == hero) return i;
+        }
+        throw new IllegalArgumentException("Hero is not in the party: " + (hero == null ? null : hero.getName()));
+    }
+
+    private static Hero[][] buildRecruitTemplates() {
+        Hero[][] templates = new Hero[RECRUIT_CLASSES.length][MAX_RECRUIT_LEVEL];
+        for (int c = 0; c < RECRUIT_CLASSES.length; c++) {
+            Hero levelled = new Hero("Recruit", RECRUIT_CLASSES[c]);
+            for (int level = 1; level <= MAX_RECRUIT_LEVEL; level++) {
+                if (level > 1) levelled.levelUp(RECRUIT_CLASSES[c]);
+                templates[c][level - 1] = new Hero(levelled);
+            }
+        }
+        return templates;
+    }
+}
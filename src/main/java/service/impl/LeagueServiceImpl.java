@@ -0,0 +1,156 @@
+package service.impl;
+
+import model.LeagueRecord;
+import service.LeagueService;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of LeagueService for many concurrently finishing battles.
+ *
+ * Recording a result never takes a global lock: each player's record is updated
+ * under that player's own lock only (winner and loser one after the other, never
+ * nested). The ranking is maintained incrementally in a concurrent skip list
+ * ordered by record, so each result moves two entries in O(log n) and
+ * {@link #top(int)} reads the first n entries without sorting. For
+ * {@link #rank(String)}, the number of players per distinct record is kept in a
+ * second skip list, so a rank sums one count per distinct better record instead
+ * of walking every better player. A record's count is removed as soon as no player
+ * holds it, so both structures stay proportional to the live records, not to the
+ * league's history.
+ *
+ * Reads never block: they see each player's latest record, though a top-N read
+ * racing with updates may briefly miss a player being moved.
+ */
+public class LeagueServiceImpl implements LeagueService {
+
+    /** A player's record and its position key; immutable, replaced on every result. */
+    private static final class Standing {
+        final String player;
+        final int wins;
+        final int losses;
+        final long key; // Ascending key = most wins, then fewest losses
+
+        Standing(String player, int wins, int losses) {
+            this.player = player;
+            this.wins = wins;
+            this.losses = losses;
+            this.key = key(wins, losses);
+        }
+
+        LeagueRecord toRecord() {
+            return new LeagueRecord(player, wins, losses);
+        }
+    }
+
+    private static final class Player {
+        final ReentrantLock lock = new ReentrantLock(); // Not a monitor, so waiting virtual threads unmount
+        volatile Standing standing; // null until the first result; guarded by lock for writes
+    }
+
+    private static final Comparator<Standing> ORDER = Comparator
+            .comparingLong((Standing s) -> s.key)
+            .thenComparing(s -> s.player);
+
+    private static final class Holder {
+        static final LeagueServiceImpl INSTANCE = new LeagueServiceImpl();
+    }
+
+    private final ConcurrentHashMap<String, Player> players = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Standing> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final ConcurrentSkipListMap<Long, Integer> playersPerRecord = new ConcurrentSkipListMap<>(); // never holds 0
+    private final LongAdder battles = new LongAdder();
+
+    /** The shared league (lazily created, thread-safe). */
+    public static LeagueServiceImpl getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /** Creates a separate, empty league, e.g. for a tournament or in tests. */
+    public LeagueServiceImpl() {
+    }
+
+    @Override
+    public void recordResult(String winner, String loser) {
+        if (winner.equals(loser)) throw new IllegalArgumentException("A player cannot play themselves: " + winner);
+        update(winner, 1, 0);
+        update(loser, 0, 1);
+        battles.increment();
+    }
+
+    @Override
+    public LeagueRecord getRecord(String player) {
+        Player entry = players.get(player);
+        Standing standing = entry == null ? null : entry.standing;
+        return standing == null ? new LeagueRecord(player, 0, 0) : standing.toRecord();
+    }
+
+    @Override
+    public List<LeagueRecord> top(int n) {
+        List<LeagueRecord> top = new ArrayList<>(Math.min(n, 64));
+        Iterator<Standing> it = ranking.iterator();
+        while (top.size() < n && it.hasNext()) top.add(it.next().toRecord());
+        return top;
+    }
+
+    @Override
+    public int rank(String player) {
+        Player entry = players.get(player);
+        Standing standing = entry == null ? null : entry.standing;
+        if (standing == null) return 0;
+        long better = 0;
+        for (int count : playersPerRecord.headMap(standing.key).values()) better += count;
+        return (int) better + 1;
+    }
+
+    @Override
+    public int playerCount() {
+        return players.size();
+    }
+
+    /** Number of results recorded so far. */
+    public long getBattlesRecorded() {
+        return battles.sum();
+    }
+
+    /** Number of distinct (wins, losses) records currently held by at least one player. */
+    public int distinctRecords() {
+        return playersPerRecord.size();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private void update(String name, int wins, int losses) {
+        Player player = players.computeIfAbsent(name, n -> new Player());
+        player.lock.lock();
+        try {
+            Standing old = player.standing;
+            Standing next = old == null
+                    ? new Standing(name, wins, losses)
+                    : new Standing(name, old.wins + wins, old.losses + losses);
+            if (old != null) {
+                ranking.remove(old);
+                playersPerRecord.computeIfPresent(old.key, (key, count) -> count == 1 ? null : count - 1);
+            }
+            playersPerRecord.merge(next.key, 1, Integer::sum);
+            ranking.add(next);
+            player.standing = next;
+        } finally {
+            player.lock.unlock();
+        }
+    }
+
+    private static long key(int wins, int losses) {
+        return ((long) (Integer.MAX_VALUE - wins) << 32) | losses;
+    }
+}
@@ -0,0 +1,74 @@
+package service.impl;
+
+import model.Hero;
+import model.HeroClass;
+import model.heroclass.EnemyStrategy;
+import service.EnemyGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * EnemyGenerator that builds every enemy like a hero: a random class levelled up
+ * through the class strategies, then scaled by the player's band.
+ *
+ * Scaling: the enemy party's cumulative level is drawn from the 10 levels just below
+ * the player's ({@code [cum - 10, cum]}, at least 1), spread over 1 to 5 units of level
+ * 1 to 10. Every unit then gets +1 attack, +1 defense and +5 HP per band, where the
+ * band is the player's cumulative level / 10.
+ *
+ * Replays every level-up for every unit; campaigns use the equivalent, cheaper
+ * {@link TemplateEnemyGenerator}. Kept as the reference the templates are checked against.
+ */
+public class LevelUpEnemyGenerator implements EnemyGenerator {
+
+    static final HeroClass[] ENEMY_CLASSES = {HeroClass.ORDER, HeroClass.CHAOS, HeroClass.WARRIOR, HeroClass.MAGE};
+    static final int MAX_UNITS = 5;
+    static final int MAX_LEVEL = 10;
+    static final int LEVELS_PER_BAND = 10;
+
+    @Override
+    public List<Hero> generate(int playerCumulativeLevel, RandomGenerator random) {
+        int[] levels = drawLevels(playerCumulativeLevel, random);
+        int band = band(playerCumulativeLevel);
+        List<Hero> enemies = new ArrayList<>(levels.length);
+        for (int i = 0; i < levels.length; i++) {
+            HeroClass heroClass = ENEMY_CLASSES[random.nextInt(ENEMY_CLASSES.length)];
+            Hero enemy = new Hero("Enemy " + (i + 1), heroClass);
+            for (int level = 1; level < levels[i]; level++) enemy.levelUp(heroClass);
+            enemy.addBaseAttack(band);
+            enemy.addBaseDefense(band);
+            enemy.addMaxHealth(5 * band);
+            enemy.revive(); // full HP and mana after the scaling
+            enemy.setClassStrategy(EnemyStrategy.INSTANCE);
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    static int band(int playerCumulativeLevel) {
+        return Math.max(0, playerCumulativeLevel) / LEVELS_PER_BAND;
+    }
+
+    /** Draws the unit count and per-unit levels; shared with other generators so they stay comparable. */
+    static int[] drawLevels(int playerCumulativeLevel, RandomGenerator random) {
+        int high = Math.max(1, Math.min(playerCumulativeLevel, MAX_UNITS * MAX_LEVEL));
+        int low = Math.max(1, high - 10);
+        int target = low + random.nextInt(high - low + 1);
+
+        int minUnits = (target + MAX_LEVEL - 1) / MAX_LEVEL;
+        int maxUnits = Math.min(MAX_UNITS, target);
+        int units = minUnits + random.nextInt(maxUnits - minUnits + 1);
+
+        int[] levels = new int[units];
+        Arrays.fill(levels, 1);
+        for (int extra = target - units; extra > 0; extra--) {
+            int unit = random.nextInt(units);
+            while (levels[unit] == MAX_LEVEL) unit = (unit + 1) % units;
+            levels[unit]++;
+        }
+        return levels;
+    }
+}
@@ -0,0 +1,203 @@
+package service.impl;
+
+import model.BattleResult;
+import model.Campaign;
+import model.Hero;
+import model.IsolatedBattle;
+import persistence.PartyRepository;
+import service.BattleService;
+import service.CampaignController;
+import service.LeagueService;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs player sessions (whole campaigns, PvP matches) concurrently, one thread per
+ * session.
+ *
+ * A session is a long sequential flow that mostly waits on persistence, so on a
+ * Java 21+ runtime every session gets its own virtual thread and tens of thousands
+ * of sessions share a few carrier threads. The mapped repositories and the league
+ * lock with ReentrantLocks rather than monitors, so a session waiting for one of
+ * those locks unmounts instead of pinning its carrier. The I/O itself does not
+ * unmount: FileChannel calls and embedded H2 queries hold the carrier while they
+ * run (the JDK adds a temporary carrier for blocking file I/O). On older runtimes
+ * sessions fall back to a fixed pool of platform threads. The project still compiles for Java 17, so the
+ * virtual-thread executor is looked up reflectively.
+ *
+ * Sessions share only the thread-safe services passed in: a campaign session works
+ * on its own copy of the party, and a PvP session fights on isolated copies of both
+ * parties, so no session ever sees another one's heroes.
+ */
+public class SessionRuntime implements Closeable {
+
+    private static final boolean VIRTUAL_THREADS = hasMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+
+    private final CampaignController campaigns;
+    private final BattleService battles;
+    private final LeagueService league;
+    private final PartyRepository parties; // null: campaign progress is not saved
+    private final ExecutorService executor;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+
+    /**
+     * Runs sessions on virtual threads when the runtime supports them, otherwise on
+     * a pool of 4 platform threads per core.
+     * @param parties Repository the party is saved to after every room, or null
+     */
+    public SessionRuntime(CampaignController campaigns, BattleService battles,
+                          LeagueService league, PartyRepository parties) {
+        this(campaigns, battles, league, parties, defaultExecutor());
+    }
+
+    /**
+     * @param executor Executor every session runs on (shut down by {@link #close()})
+     */
+    public SessionRuntime(CampaignController campaigns, BattleService battles,
+                          LeagueService league, PartyRepository parties, ExecutorService executor) {
+        this.campaigns = campaigns;
+        this.battles = battles;
+        this.league = league;
+        this.parties = parties;
+        this.executor = executor;
+    }
+
+    /** True if sessions run on virtual threads by default on this runtime. */
+    public static boolean virtualThreadsAvailable() {
+        return VIRTUAL_THREADS;
+    }
+
+    // -------------------------------------------------------------------------
+    // Sessions
+    // -------------------------------------------------------------------------
+
+    /**
+     * Plays a whole campaign for a copy of {@code party}, saving the party to
+     * {@code slot} after every room.
+     * @return The finished campaign
+     */
+    public CompletableFuture<Campaign> startCampaign(String player, int slot, List<Hero> party, long seed) {
+        List<Hero> own = new ArrayList<>(party.size());
+        for (Hero hero : party) own.add(new Hero(hero));
+        return submit(() -> {
+            Campaign campaign = campaigns.startCampaign(own, seed);
+            while (!campaign.isFinished()) {
+                campaigns.enterNextRoom(campaign);
+                if (parties != null) parties.save(player, slot, campaign.getParty());
+            }
+            return campaign;
+        });
+    }
+
+    /**
+     * Fights a PvP match on copies of both parties and records a decisive result in
+     * the league.
+     */
+    public CompletableFuture<BattleResult> startPvP(String playerA, List<Hero> partyA,
+                                                    String playerB, List<Hero> partyB, long seed) {
+        return submit(() -> {
+            IsolatedBattle battle = battles.startIsolatedBattle(partyA, partyB, seed);
+            BattleResult result = battle.getResult();
+            if (!result.isDraw()) {
+                boolean aWon = false;
+                for (Hero hero : battle.getTeamA()) aWon |= hero.isAlive();
+                league.recordResult(aWon ? playerA : playerB, aWon ? playerB : playerA);
+            }
+            return result;
+        });
+    }
+
+    /** Runs any other session flow on its own thread. */
+    public <T> CompletableFuture<T> submit(Callable<T> session) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        active.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                T result = null;
+                Throwable failure = null;
+                try {
+                    result = session.call();
+                } catch (Throwable t) {
+                    failure = t;
+                }
+                // Count the session as finished before anyone waiting on it wakes up
+                active.decrementAndGet();
+                completed.incrementAndGet();
+                if (failure == null) future.complete(result);
+                else future.completeExceptionally(failure);
+            });
+        } catch (RejectedExecutionException e) {
+            active.decrementAndGet();
+            throw new IllegalStateException("Session runtime is closed", e);
+        }
+        return future;
+    }
+
+    /** Sessions submitted but not finished yet. */
+    public int activeSessions() {
+        return active.get();
+    }
+
+    /** Sessions finished, successfully or not. */
+    public long completedSessions() {
+        return completed.get();
+    }
+
+    /** Stops accepting sessions and waits for the running ones to finish. */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                // Sessions are finite; keep waiting
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private static ExecutorService defaultExecutor() {
+        ExecutorService virtual = virtualThreadExecutor();
+        if (virtual != null) return virtual;
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(4 * Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "session-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static boolean hasMethod(Class<?> type, String name) {
+        try {
+            type.getMethod(name);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /** {@code Executors.newVirtualThreadPerTaskExecutor()}, or null before Java 21. */
+    private static ExecutorService virtualThreadExecutor() {
+        if (!VIRTUAL_THREADS) return null;
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package service.impl;
+
+import model.EncounterTable;
+import model.Hero;
+import model.HeroClass;
+import model.heroclass.EnemyStrategy;
+import service.EnemyGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * EnemyGenerator that stamps enemies out of precomputed stat templates.
+ *
+ * Every (class, level, band) combination a campaign can produce is built once, the
+ * same way {@link LevelUpEnemyGenerator} builds an enemy. Generating a party then
+ * only copies templates ({@link Hero#Hero(String, Hero)}), without replaying any
+ * level-up or class bonus. Draws consume the random source exactly as
+ * LevelUpEnemyGenerator does, so both produce the same parties from the same stream.
+ */
+public class TemplateEnemyGenerator implements EnemyGenerator {
+
+    /** Highest band a party can reach (bands above it use its templates). */
+    static final int MAX_BAND = LevelUpEnemyGenerator.band(EncounterTable.MAX_CUMULATIVE_LEVEL);
+
+    private static final String[] NAMES = {"Enemy 1", "Enemy 2", "Enemy 3", "Enemy 4", "Enemy 5"};
+
+    // Indexed by [class][level - 1][band]; never handed out, only copied
+    private static final Hero[][][] TEMPLATES = buildTemplates();
+
+    @Override
+    public List<Hero> generate(int playerCumulativeLevel, RandomGenerator random) {
+        int[] levels = LevelUpEnemyGenerator.drawLevels(playerCumulativeLevel, random);
+        int band = Math.min(LevelUpEnemyGenerator.band(playerCumulativeLevel), MAX_BAND);
+        List<Hero> enemies = new ArrayList<>(levels.length);
+        for (int i = 0; i < levels.length; i++) {
+            int heroClass = random.nextInt(LevelUpEnemyGenerator.ENEMY_CLASSES.length);
+            enemies.add(new Hero(NAMES[i], TEMPLATES[heroClass][levels[i] - 1][band]));
+        }
+        return enemies;
+    }
+
+    private static Hero[][][] buildTemplates() {
+        HeroClass[] classes = LevelUpEnemyGenerator.ENEMY_CLASSES;
+        Hero[][][] templates = new Hero[classes.length][LevelUpEnemyGenerator.MAX_LEVEL][MAX_BAND + 1];
+        for (int c = 0; c < classes.length; c++) {
+            Hero levelled = new Hero("Enemy", classes[c]);
+            for (int level = 1; level <= LevelUpEnemyGenerator.MAX_LEVEL; level++) {
+                if (level > 1) levelled.levelUp(classes[c]);
+                for (int band = 0; band <= MAX_BAND; band++) {
+                    Hero template = new Hero(levelled);
+                    template.addBaseAttack(band);
+                    template.addBaseDefense(band);
+                    template.addMaxHealth(5 * band);
+                    template.revive();
+                    template.setClassStrategy(EnemyStrategy.INSTANCE);
+                    templates[c][level - 1][band] = template;
+                }
+            }
+        }
+        return templates;
+    }
+}
@@ -0,0 +1,302 @@
+package service.impl;
+
+import model.BattleResult;
+import model.Hero;
+import model.IsolatedBattle;
+import model.MatchResult;
+import model.Seeds;
+import model.TournamentEntry;
+import service.BattleService;
+import service.LeagueService;
+import service.TournamentService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of TournamentService.
+ *
+ * The schedule is built up front (a whole round-robin, or one Swiss round at a
+ * time since pairings depend on the standings) and split into a few chunks per
+ * worker, like {@link BattleSimulationServiceImpl}: each chunk fights its matches
+ * sequentially, so the scheduler submits a handful of tasks rather than one per
+ * match and throughput is bound by the workers. Matches run as isolated battles
+ * (never committed), so the entries' heroes are never changed, and each result is
+ * recorded in the league as soon as its match ends. The league must be thread-safe
+ * (as {@link LeagueServiceImpl} is).
+ *
+ * Match {@code i} of the schedule is fought with a battle seed derived from the
+ * tournament seed and {@code i} alone, so results do not depend on the thread count.
+ */
+public class TournamentServiceImpl implements TournamentService {
+
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int WIN_POINTS = 2;
+    private static final int DRAW_POINTS = 1;
+    private static final int PAIRING_STEPS_PER_ENTRY = 64;
+
+    /** A scheduled pairing: indexes into the entry list. */
+    private static final class Match {
+        final int round;
+        final int first;
+        final int second;
+
+        Match(int round, int first, int second) {
+            this.round = round;
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    private final BattleService battleService;
+    private final LeagueService league;
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    /** Runs tournaments on the common fork/join pool and records them in the shared league. */
+    public TournamentServiceImpl() {
+        this(new BattleServiceImpl(), LeagueServiceImpl.getInstance(),
+                ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * @param battleService Stateless battle engine used for every match
+     * @param league        Thread-safe league the results are recorded in
+     * @param executor      Executor the chunks are submitted to (not shut down by this class)
+     * @param parallelism   Number of workers the executor provides; used to size the chunks
+     */
+    public TournamentServiceImpl(BattleService battleService, LeagueService league,
+                                 ExecutorService executor, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be positive");
+        this.battleService = battleService;
+        this.league = league;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public List<MatchResult> roundRobin(List<TournamentEntry> entries, long seed) {
+        List<Match> schedule = roundRobinSchedule(entries);
+        return Arrays.asList(play(entries, schedule, 0, seed));
+    }
+
+    @Override
+    public List<MatchResult> swiss(List<TournamentEntry> entries, int rounds, long seed) {
+        if (rounds <= 0) throw new IllegalArgumentException("rounds must be positive");
+        int n = entries.size();
+        int[] points = new int[n];
+        boolean[] hadBye = new boolean[n];
+        Set<Long> played = new HashSet<>();
+        List<MatchResult> results = new ArrayList<>();
+        for (int round = 0; round < rounds; round++) {
+            List<Match> pairings = swissRound(entries, round, points, hadBye, played);
+            MatchResult[] roundResults = play(entries, pairings, results.size(), seed);
+            for (int m = 0; m < roundResults.length; m++) {
+                MatchResult result = roundResults[m];
+                int first = pairings.get(m).first;
+                int second = pairings.get(m).second;
+                if (result.isDraw()) {
+                    points[first] += DRAW_POINTS;
+                    points[second] += DRAW_POINTS;
+                } else {
+                    points[result.getWinner() == result.getFirst() ? first : second] += WIN_POINTS;
+                }
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    // -------------------------------------------------------------------------
+    // Scheduling
+    // -------------------------------------------------------------------------
+
+    /** Circle method: every pair once, each entry at most once per round. */
+    private static List<Match> roundRobinSchedule(List<TournamentEntry> entries) {
+        int n = entries.size();
+        int slots = n + (n % 2); // An odd count gets a dummy slot (-1): its opponent sits out
+        int[] circle = new int[slots];
+        for (int i = 0; i < slots; i++) circle[i] = i < n ? i : -1;
+        List<Match> schedule = new ArrayList<>(n * (n - 1) / 2);
+        for (int round = 0; round < slots - 1; round++) {
+            for (int i = 0; i < slots / 2; i++) {
+                int a = circle[i];
+                int b = circle[slots - 1 - i];
+                if (a >= 0 && b >= 0 && canMeet(entries, a, b)) schedule.add(new Match(round, a, b));
+            }
+            // Keep the first slot fixed and rotate the others by one
+            int last = circle[slots - 1];
+            System.arraycopy(circle, 1, circle, 2, slots - 2);
+            circle[1] = last;
+        }
+        return schedule;
+    }
+
+    /** Pairs one Swiss round: by points (then entry order), avoiding rematches when possible. */
+    private static List<Match> swissRound(List<TournamentEntry> entries, int round, int[] points,
+                                          boolean[] hadBye, Set<Long> played) {
+        int n = entries.size();
+        List<Integer> order = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) order.add(i);
+        order.sort((a, b) -> points[a] != points[b] ? Integer.compare(points[b], points[a]) : Integer.compare(a, b));
+
+        if (n % 2 == 1) {
+            int bye = n - 1; // Everyone had a bye already: the lowest-ranked gets another
+            for (int i = n - 1; i >= 0; i--) {
+                if (!hadBye[order.get(i)]) {
+                    bye = i;
+                    break;
+                }
+            }
+            int entry = order.remove(bye);
+            hadBye[entry] = true;
+            points[entry] += WIN_POINTS;
+        }
+
+        List<Match> pairings = new ArrayList<>(n / 2);
+        int[] partner = new int[n];
+        Arrays.fill(partner, -1);
+        int[] budget = {PAIRING_STEPS_PER_ENTRY * n};
+        if (!pairFresh(entries, order, 0, partner, played, budget)) {
+            // No pairing without rematches: pair greedily, preferring new opponents
+            Arrays.fill(partner, -1);
+            for (int i = 0; i < order.size(); i++) {
+                int a = order.get(i);
+                if (partner[a] >= 0) continue;
+                int fresh = -1;
+                int rematch = -1;
+                for (int j = i + 1; j < order.size() && fresh < 0; j++) {
+                    int b = order.get(j);
+                    if (partner[b] >= 0 || !canMeet(entries, a, b)) continue;
+                    if (!played.contains(pairKey(a, b, n))) fresh = b;
+                    else if (rematch < 0) rematch = b;
+                }
+                int b = fresh >= 0 ? fresh : rematch;
+                if (b < 0) continue; // Nobody left this entry may play: it sits out
+                partner[a] = b;
+                partner[b] = a;
+            }
+        }
+        boolean[] scheduled = new boolean[n];
+        for (int a : order) {
+            int b = partner[a];
+            if (b < 0 || scheduled[a]) continue;
+            scheduled[a] = true;
+            scheduled[b] = true;
+            played.add(pairKey(a, b, n));
+            pairings.add(new Match(round, a, b));
+        }
+        return pairings;
+    }
+
+    /**
+     * Backtracking search for a pairing of everyone in {@code order} from {@code from}
+     * on without rematches, trying the closest-ranked opponents first. Gives up once
+     * {@code budget[0]} attempts are used, so a hopeless search stays cheap.
+     */
+    private static boolean pairFresh(List<TournamentEntry> entries, List<Integer> order, int from,
+                                     int[] partner, Set<Long> played, int[] budget) {
+        while (from < order.size() && partner[order.get(from)] >= 0) from++;
+        if (from == order.size()) return true;
+        int a = order.get(from);
+        for (int j = from + 1; j < order.size(); j++) {
+            int b = order.get(j);
+            if (partner[b] >= 0 || !canMeet(entries, a, b) || played.contains(pairKey(a, b, entries.size()))) continue;
+            if (--budget[0] < 0) return false;
+            partner[a] = b;
+            partner[b] = a;
+            if (pairFresh(entries, order, from + 1, partner, played, budget)) return true;
+            partner[a] = -1;
+            partner[b] = -1;
+        }
+        return false;
+    }
+
+    private static boolean canMeet(List<TournamentEntry> entries, int a, int b) {
+        return !entries.get(a).getPlayer().equals(entries.get(b).getPlayer());
+    }
+
+    private static long pairKey(int a, int b, int n) {
+        return (long) Math.min(a, b) * n + Math.max(a, b);
+    }
+
+    // -------------------------------------------------------------------------
+    // Execution
+    // -------------------------------------------------------------------------
+
+    /**
+     * Plays {@code schedule} in parallel; match {@code i} uses seed index {@code firstIndex + i}.
+     * If a match fails, chunks not yet started are cancelled and running ones stop
+     * before their next match, so the league is not fed the rest of a failed schedule.
+     */
+    private MatchResult[] play(List<TournamentEntry> entries, List<Match> schedule, int firstIndex, long seed) {
+        MatchResult[] results = new MatchResult[schedule.size()];
+        if (schedule.isEmpty()) return results;
+        int chunks = Math.min(schedule.size(), parallelism * CHUNKS_PER_WORKER);
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        AtomicBoolean aborted = new AtomicBoolean();
+        int start = 0;
+        for (int c = 0; c < chunks; c++) {
+            // Spread the remainder over the first chunks
+            int count = schedule.size() / chunks + (c < schedule.size() % chunks ? 1 : 0);
+            int from = start;
+            futures.add(executor.submit(() -> {
+                try {
+                    for (int i = from; i < from + count && !aborted.get(); i++) {
+                        results[i] = playMatch(entries, schedule.get(i), Seeds.derive(seed, firstIndex + i));
+                    }
+                } catch (RuntimeException | Error e) {
+                    aborted.set(true);
+                    throw e;
+                }
+            }));
+            start += count;
+        }
+        try {
+            for (Future<?> future : futures) await(future);
+        } catch (RuntimeException e) {
+            aborted.set(true);
+            for (Future<?> future : futures) future.cancel(false);
+            throw e;
+        }
+        return results;
+    }
+
+    private MatchResult playMatch(List<TournamentEntry> entries, Match match, long seed) {
+        TournamentEntry first = entries.get(match.first);
+        TournamentEntry second = entries.get(match.second);
+        IsolatedBattle battle = battleService.startIsolatedBattle(first.getParty(), second.getParty(), seed);
+        BattleResult result = battle.getResult();
+        TournamentEntry winner = null;
+        if (!result.isDraw()) {
+            winner = anyAlive(battle.getTeamA()) ? first : second;
+            league.recordResult(winner.getPlayer(), (winner == first ? second : first).getPlayer());
+        }
+        return new MatchResult(match.round, first, second, winner, result.getRounds());
+    }
+
+    private static boolean anyAlive(List<Hero> team) {
+        for (Hero hero : team) if (hero.isAlive()) return true;
+        return false;
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("Tournament match failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import service.impl.BattleServiceImpl;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BattleEventLogTest {
+
+    // =========================================================================
+    // 1. Hero events are recorded with the right ids
+    // =========================================================================
+
+    @Test
+    public void testRecordsDamageShieldAndDeath() {
+        Hero a = new Hero("A", HeroClass.WARRIOR);
+        Hero b = new Hero("B", HeroClass.ORDER);
+        BattleEventLog log = new BattleEventLog(1); // force growth
+        log.attach(Collections.singletonList(a), Collections.singletonList(b));
+        b.addShield(30);
+        b.takeDamage(50);  // 30 absorbed, 20 HP
+        b.takeDamage(200); // dies
+        log.detach();
+
+        BattleEventLog.Cursor cursor = log.cursor();
+        assertTrue(cursor.next());
+        assertEquals(BattleEventType.SHIELD_ABSORBED, cursor.type());
+        assertEquals(BattleEventLog.TEAM_B_OFFSET, cursor.heroId());
+        assertEquals(30, cursor.value());
+        assertTrue(cursor.next());
+        assertEquals(BattleEventType.DAMAGE, cursor.type());
+        assertEquals(20, cursor.value());
+        assertTrue(cursor.next());
+        assertEquals(BattleEventType.DAMAGE, cursor.type());
+        assertEquals(80, cursor.value());
+        assertTrue(cursor.next());
+        assertEquals(BattleEventType.DEATH, cursor.type());
+        assertFalse(cursor.next());
+        assertNull(b.getEventListener()); // detached
+    }
+
+    // =========================================================================
+    // 2. Recorded battle can be summarized and round-tripped through bytes
+    // =========================================================================
+
+    @Test
+    public void testRecordedBattleSummaryMatchesFinalState() {
+        Hero strong = new Hero("Strong", HeroClass.CHAOS);
+        for (int i = 0; i < 10; i++) strong.levelUp(HeroClass.CHAOS);
+        Hero weak1 = new Hero("Weak1", HeroClass.ORDER);
+        Hero weak2 = new Hero("Weak2", HeroClass.WARRIOR);
+        int strongHpBefore = strong.getCurrentHealth();
+        List<Hero> teamA = Collections.singletonList(strong);
+        List<Hero> teamB = Arrays.asList(weak1, weak2);
+
+        BattleEventLog log = new BattleEventLog();
+        BattleResult result = new BattleServiceImpl().startBattle(teamA, teamB, new SplittableRandom(5), log);
+        assertSame(log, result.getEventLog());
+
+        ByteBuffer bytes = ByteBuffer.allocate(4 + 8 * log.eventCount());
+        log.writeTo(bytes);
+        bytes.flip();
+        BattleEventLog replay = new BattleEventLog();
+        replay.readFrom(bytes);
+        assertEquals(log.eventCount(), replay.eventCount());
+
+        BattleLogSummary summary = BattleLogSummary.of(replay);
+        int b0 = BattleEventLog.TEAM_B_OFFSET;
+        assertEquals(result.getRounds(), summary.getRounds());
+        assertTrue(summary.getDeathRound(b0) > 0);
+        assertTrue(summary.getDeathRound(b0 + 1) > 0);
+        assertEquals(0, summary.getDeathRound(0));
+        // Defending heals, so HP lost is at least the HP the heroes started with
+        assertTrue(summary.getDamageTaken(b0) >= weak1.getCurrentMaxHealth());
+        assertTrue(summary.getDamageTaken(b0 + 1) >= weak2.getCurrentMaxHealth());
+        assertTrue(summary.getDamageTaken(0) >= strongHpBefore - strong.getCurrentHealth());
+        assertEquals(summary.getDamageTaken(b0) + summary.getDamageTaken(b0 + 1), summary.getDamageDealt(0));
+        assertTrue(summary.getDamageDealt(0) > 0);
+    }
+
+    // =========================================================================
+    // 3. A caller's own listener keeps firing during and after recording
+    // =========================================================================
+
+    @Test
+    public void testAttachChainsAndRestoresExistingListener() {
+        Hero a = new Hero("A", HeroClass.WARRIOR);
+        Hero b = new Hero("B", HeroClass.ORDER);
+        int[] deaths = new int[1];
+        HeroEventListener own = new HeroEventListener() {
+            @Override public void onDamageTaken(Hero hero, int damage, int absorbed) {}
+            @Override public void onDeath(Hero hero) { deaths[0]++; }
+            @Override public void onStatusApplied(Hero hero, StatusType type) {}
+            @Override public void onStatusExpired(Hero hero, StatusType type) {}
+        };
+        b.setEventListener(own);
+
+        BattleEventLog log = new BattleEventLog();
+        log.attach(Collections.singletonList(a), Collections.singletonList(b));
+        assertEquals(BattleEventLog.TEAM_B_OFFSET, log.idOf(b));
+        b.takeDamage(500);
+        log.detach();
+
+        assertEquals(1, deaths[0]);
+        assertSame(own, b.getEventListener());
+        assertEquals(BattleEventLog.NO_HERO, log.idOf(b));
+    }
+
+    // =========================================================================
+    // 4. Corrupt buffers are rejected and leave the log untouched
+    // =========================================================================
+
+    @Test
+    public void testReadFromRejectsCorruptEvents() {
+        Hero a = new Hero("A", HeroClass.WARRIOR);
+        Hero b = new Hero("B", HeroClass.ORDER);
+        BattleEventLog log = new BattleEventLog();
+        log.attach(Collections.singletonList(a), Collections.singletonList(b));
+        log.roundStart(1);
+        b.takeDamage(10);
+        log.detach();
+        ByteBuffer bytes = ByteBuffer.allocate(4 + 8 * log.eventCount());
+        log.writeTo(bytes);
+
+        BattleEventLog replay = new BattleEventLog();
+        ByteBuffer badType = ByteBuffer.allocate(bytes.capacity()).put(bytes.array());
+        badType.put(4 + 8, (byte) 0x7F); // type byte of the DAMAGE event
+        badType.rewind();
+        assertThrows(IllegalArgumentException.class, () -> replay.readFrom(badType));
+        assertEquals(0, replay.eventCount());
+
+        ByteBuffer badHero = ByteBuffer.allocate(bytes.capacity()).put(bytes.array());
+        badHero.put(4 + 8 + 1, (byte) 40); // hero byte of the DAMAGE event
+        badHero.rewind();
+        assertThrows(IllegalArgumentException.class, () -> replay.readFrom(badHero));
+
+        ByteBuffer heroOnRound = ByteBuffer.allocate(bytes.capacity()).put(bytes.array());
+        heroOnRound.put(4 + 1, (byte) 0); // ROUND_START naming a hero
+        heroOnRound.rewind();
+        assertThrows(IllegalArgumentException.class, () -> replay.readFrom(heroOnRound));
+        assertEquals(0, replay.eventCount());
+
+        bytes.rewind();
+        replay.readFrom(bytes);
+        assertEquals(log.eventCount(), replay.eventCount());
+    }
+}
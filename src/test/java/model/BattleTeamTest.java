@@ -0,0 +1,80 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BattleTeamTest {
+
+    @Test
+    public void testTracksDeathsIncrementally() {
+        Hero h1 = new Hero("H1", HeroClass.WARRIOR);
+        Hero h2 = new Hero("H2", HeroClass.ORDER);
+        Hero h3 = new Hero("H3", HeroClass.MAGE);
+        h3.takeDamage(500); // already dead before the battle
+        BattleTeam team = new BattleTeam(Arrays.asList(h1, h2, h3));
+
+        assertEquals(2, team.aliveCount());
+        assertSame(h1, team.firstAlive());
+
+        h2.takeDamage(500);
+        assertEquals(1, team.aliveCount());
+        assertSame(h1, team.firstAlive());
+
+        h1.takeDamage(500);
+        assertFalse(team.hasAlive());
+        assertNull(team.firstAlive());
+
+        team.release();
+    }
+
+    @Test
+    public void testSortKeepsFirstAliveAndDoesNotTouchSourceList() {
+        Hero low  = new Hero("Low",  HeroClass.CHAOS);
+        Hero high = new Hero("High", HeroClass.CHAOS);
+        high.levelUp(HeroClass.CHAOS);
+        List<Hero> source = Arrays.asList(low, high);
+        BattleTeam team = new BattleTeam(source);
+
+        team.sortBy(Comparator.comparingInt(Hero::getLevel).reversed());
+        assertSame(high, team.get(0));
+        assertSame(low, source.get(0));
+        assertSame(high, team.firstAlive());
+
+        high.takeDamage(500);
+        assertSame(low, team.firstAlive());
+
+        // Released heroes no longer report to the team
+        team.release();
+        low.takeDamage(500);
+        assertEquals(1, team.aliveCount());
+    }
+
+    @Test
+    public void testOrderOnlyDirtyAfterInitiativeChanges() {
+        Hero a = new Hero("A", HeroClass.WARRIOR);
+        Hero b = new Hero("B", HeroClass.MAGE);
+        BattleTeam team = new BattleTeam(Arrays.asList(a, b));
+        Comparator<Hero> byLevel = Comparator.comparingInt(Hero::getLevel).reversed();
+
+        assertTrue(team.sortIfDirty(byLevel));  // first sort always runs
+        assertFalse(team.sortIfDirty(byLevel)); // nothing changed
+
+        a.takeDamage(10);
+        a.useMana(10);
+        assertFalse(team.isOrderDirty());       // HP/mana do not affect initiative
+
+        b.levelUp(HeroClass.MAGE);
+        assertTrue(team.isOrderDirty());
+        assertTrue(team.sortIfDirty(byLevel));
+        assertSame(b, team.get(0));
+
+        a.addBaseAttack(2);
+        assertTrue(team.isOrderDirty());
+        team.release();
+    }
+}
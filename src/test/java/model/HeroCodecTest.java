@@ -0,0 +1,109 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeroCodecTest {
+
+    // =========================================================================
+    // 1. A hero survives an encode/decode round trip unchanged
+    // =========================================================================
+
+    @Test
+    public void testHeroRoundTrip() {
+        Hero hero = new Hero("Hybrid", HeroClass.WARRIOR);
+        for (int i = 0; i < 5; i++) hero.levelUp(HeroClass.WARRIOR);
+        for (int i = 0; i < 5; i++) hero.levelUp(HeroClass.MAGE);
+        hero.gainExperience(123);
+        hero.addStatusEffect(new StatusEffect(StatusType.SHIELD, 1, 12));
+        hero.addStatusEffect(new StatusEffect(StatusType.STUN, 2));
+        hero.takeDamage(40);
+        hero.useMana(7);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HeroCodec.HERO_BYTES);
+        HeroCodec.encode(hero, buffer);
+        assertEquals(HeroCodec.HERO_BYTES, buffer.position());
+        buffer.flip();
+        Hero copy = HeroCodec.decode(buffer);
+        assertEquals(HeroCodec.HERO_BYTES, buffer.position());
+
+        assertEquals(hero.getName(), copy.getName());
+        assertEquals(hero.getHeroClass(), copy.getHeroClass());
+        assertEquals(hero.getActiveClass(), copy.getActiveClass());
+        assertEquals(HeroClass.WARRIOR, copy.getSpecializationClass());
+        assertEquals(HeroClass.MAGE, copy.getHybridClass());
+        assertEquals(hero.getLevel(), copy.getLevel());
+        assertEquals(hero.getExperience(), copy.getExperience());
+        for (HeroClass c : HeroClass.values()) assertEquals(hero.getClassLevel(c), copy.getClassLevel(c));
+        assertEquals(hero.getCurrentAttack(), copy.getCurrentAttack());
+        assertEquals(hero.getCurrentDefense(), copy.getCurrentDefense());
+        assertEquals(hero.getCurrentMaxHealth(), copy.getCurrentMaxHealth());
+        assertEquals(hero.getCurrentMaxMana(), copy.getCurrentMaxMana());
+        assertEquals(hero.getCurrentHealth(), copy.getCurrentHealth());
+        assertEquals(hero.getCurrentMana(), copy.getCurrentMana());
+        assertEquals(hero.getShieldAmount(), copy.getShieldAmount());
+        assertTrue(copy.isStunned());
+        assertTrue(copy.isAlive());
+        assertEquals(hero.getClassAbilities(), copy.getClassAbilities());
+        assertEquals(2, copy.getStatusEffects().size());
+        assertEquals(StatusType.STUN, copy.getStatusEffects().get(1).getType());
+        assertEquals(2, copy.getStatusEffects().get(1).getDuration());
+        assertEquals(12, copy.getStatusEffects().get(0).getMagnitude());
+    }
+
+    // =========================================================================
+    // 2. Parties use a fixed-size record and reject unknown versions
+    // =========================================================================
+
+    @Test
+    public void testPartyRoundTripAndVersionCheck() {
+        Hero dead = new Hero("Fallen", HeroClass.CHAOS);
+        dead.takeDamage(500);
+        List<Hero> party = Arrays.asList(new Hero("A", HeroClass.ORDER), dead);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HeroCodec.PARTY_BYTES * 2);
+        HeroCodec.encodeParty(party, buffer);
+        HeroCodec.encodeParty(List.of(), buffer);
+        assertEquals(2 * HeroCodec.PARTY_BYTES, buffer.position());
+        buffer.flip();
+
+        List<Hero> decoded = HeroCodec.decodeParty(buffer);
+        assertEquals(2, decoded.size());
+        assertEquals("Fallen", decoded.get(1).getName());
+        assertFalse(decoded.get(1).isAlive());
+        assertEquals(0, decoded.get(1).getCurrentHealth());
+        assertTrue(HeroCodec.decodeParty(buffer).isEmpty());
+
+        buffer.put(0, (byte) 99);
+        buffer.position(0);
+        assertThrows(IllegalArgumentException.class, () -> HeroCodec.decodeParty(buffer));
+        assertThrows(IllegalArgumentException.class,
+                () -> HeroCodec.encode(new Hero("A name that is far too long for a record", HeroClass.MAGE),
+                        ByteBuffer.allocate(HeroCodec.HERO_BYTES)));
+    }
+
+    // =========================================================================
+    // 3. Out-of-range durations and corrupt status bytes are rejected
+    // =========================================================================
+
+    @Test
+    public void testRejectsUnencodableDurationAndCorruptStatus() {
+        Hero forever = new Hero("Forever", HeroClass.ORDER);
+        forever.addStatusEffect(new StatusEffect(StatusType.SHIELD, Integer.MAX_VALUE, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> HeroCodec.encode(forever, ByteBuffer.allocate(HeroCodec.HERO_BYTES)));
+
+        Hero hero = new Hero("Stunned", HeroClass.CHAOS);
+        hero.addStatusEffect(new StatusEffect(StatusType.STUN, 1, 0));
+        ByteBuffer buffer = ByteBuffer.allocate(HeroCodec.HERO_BYTES);
+        HeroCodec.encode(hero, buffer);
+        buffer.put(56, (byte) -1); // type byte of the first status effect
+        buffer.flip();
+        assertThrows(IllegalArgumentException.class, () -> HeroCodec.decode(buffer));
+    }
+}
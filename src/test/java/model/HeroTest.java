@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -351,5 +352,236 @@ public class HeroTest {
         assertEquals(hero.getCurrentMaxHealth(), hero.getCurrentHealth());
         assertEquals(hero.getCurrentMaxMana(),   hero.getCurrentMana());
     }
-}
 
+    // =========================================================================
+    // 16. Derived stats stay in sync with mutators and hybridization
+    // =========================================================================
+
+    @Test
+    public void testDerivedStatsRefreshAfterMutators() {
+        Hero hero = new Hero("Iota", HeroClass.WARRIOR);
+        int atk = hero.getCurrentAttack();
+        int def = hero.getCurrentDefense();
+        int hp  = hero.getCurrentMaxHealth();
+        int mp  = hero.getCurrentMaxMana();
+        hero.addBaseAttack(3);
+        hero.addBaseDefense(4);
+        hero.addMaxHealth(10);
+        hero.addMaxMana(6);
+        assertEquals(atk + 3,  hero.getCurrentAttack());
+        assertEquals(def + 4,  hero.getCurrentDefense());
+        assertEquals(hp  + 10, hero.getCurrentMaxHealth());
+        assertEquals(mp  + 6,  hero.getCurrentMaxMana());
+    }
+
+    @Test
+    public void testDerivedStatsRefreshOnSpecializationAndHybrid() {
+        Hero hero = new Hero("Kappa", HeroClass.WARRIOR);
+        for (int i = 0; i < 3; i++) hero.levelUp(HeroClass.WARRIOR); // class level 4
+        int atkBeforeSpec = hero.getCurrentAttack();
+        hero.levelUp(HeroClass.WARRIOR);                                // spec at 5
+        // +1 base +2 Warrior, plus specialization doubling: +1 per Warrior class level (5)
+        assertEquals(atkBeforeSpec + 1 + 2 + 5, hero.getCurrentAttack());
+
+        for (int i = 0; i < 4; i++) hero.levelUp(HeroClass.CHAOS);      // CHAOS level 4
+        int atkBeforeHybrid = hero.getCurrentAttack();
+        hero.levelUp(HeroClass.CHAOS);                                  // hybrid at 5
+        assertEquals(HeroClass.CHAOS, hero.getHybridClass());
+        // Spec doubling (+5) is replaced by combined growth: 2*5 Warrior + 3*5 Chaos
+        assertEquals(atkBeforeHybrid + 1 + 3 - 5 + 10 + 15, hero.getCurrentAttack());
+    }
+
+    // =========================================================================
+    // 17. Per-class level tracking
+    // =========================================================================
+
+    @Test
+    public void testClassLevelsTrackedPerClass() {
+        Hero hero = new Hero("Lambda", HeroClass.ORDER);
+        assertEquals(1, hero.getClassLevel(HeroClass.ORDER));
+        assertEquals(0, hero.getClassLevel(HeroClass.MAGE));
+        hero.levelUp(HeroClass.MAGE);
+        hero.levelUp(HeroClass.MAGE);
+        hero.levelUp(HeroClass.ORDER);
+        assertEquals(2, hero.getClassLevel(HeroClass.ORDER));
+        assertEquals(2, hero.getClassLevel(HeroClass.MAGE));
+        assertEquals(0, hero.getClassLevel(HeroClass.CHAOS));
+        assertEquals(4, hero.getLevel());
+    }
+
+    // =========================================================================
+    // 18. Abilities are shared, immutable instances
+    // =========================================================================
+
+    @Test
+    public void testClassAbilitiesAreSharedAndUnmodifiable() {
+        Hero a = new Hero("Mu", HeroClass.CHAOS);
+        Hero b = new Hero("Nu", HeroClass.CHAOS);
+        List<Ability> abilities = a.getClassAbilities();
+        assertSame(abilities, b.getClassAbilities());
+        assertSame(Fireball.STANDARD, abilities.get(0));
+        assertSame(ChainLightning.STANDARD, abilities.get(1));
+        a.levelUp(HeroClass.CHAOS);
+        assertSame(abilities, a.getClassAbilities());
+        assertThrows(UnsupportedOperationException.class, () -> abilities.add(new Fireball()));
+    }
+
+    // =========================================================================
+    // 19. Copy constructor produces an independent hero
+    // =========================================================================
+
+    @Test
+    public void testCopyIsIndependentOfOriginal() {
+        Hero original = new Hero("Xi", HeroClass.WARRIOR);
+        for (int i = 0; i < 4; i++) original.levelUp(HeroClass.WARRIOR);
+        original.addStatusEffect(new StatusEffect(StatusType.STUN, 1));
+        original.takeDamage(20);
+
+        Hero copy = new Hero(original);
+        assertEquals(original.getCurrentAttack(), copy.getCurrentAttack());
+        assertEquals(original.getCurrentHealth(), copy.getCurrentHealth());
+        assertEquals(HeroClass.WARRIOR, copy.getSpecializationClass());
+        assertTrue(copy.isStunned());
+
+        copy.processStatusEffects();
+        copy.takeDamage(30);
+        copy.levelUp(HeroClass.MAGE);
+        assertTrue(original.isStunned());
+        assertEquals(80, original.getCurrentHealth());
+        assertEquals(0, original.getClassLevel(HeroClass.MAGE));
+    }
+
+    // =========================================================================
+    // 20. Seeded random source makes abilities reproducible
+    // =========================================================================
+
+    @Test
+    public void testChainLightningIsReproducibleWithSameSeed() {
+        int[] first  = chainLightningOnFreshTargets(1234L);
+        int[] second = chainLightningOnFreshTargets(1234L);
+        assertArrayEquals(first, second);
+    }
+
+    private int[] chainLightningOnFreshTargets(long seed) {
+        Hero caster = new Hero("Omicron", HeroClass.CHAOS);
+        for (int i = 0; i < 9; i++) caster.levelUp(HeroClass.CHAOS);
+        List<Hero> targets = Arrays.asList(
+                new Hero("P1", HeroClass.ORDER), new Hero("P2", HeroClass.ORDER),
+                new Hero("P3", HeroClass.ORDER), new Hero("P4", HeroClass.ORDER),
+                new Hero("P5", HeroClass.ORDER));
+        ChainLightning.INVOKER.execute(caster, targets, new SplittableRandom(seed));
+        int[] hp = new int[targets.size()];
+        for (int i = 0; i < hp.length; i++) hp[i] = targets.get(i).getCurrentHealth();
+        return hp;
+    }
+
+    // =========================================================================
+    // 21. Snapshot and restore roll back all mutable state
+    // =========================================================================
+
+    @Test
+    public void testSnapshotRestoreRollsBackRepeatedly() {
+        Hero hero = new Hero("Rho", HeroClass.ORDER);
+        for (int i = 0; i < 3; i++) hero.levelUp(HeroClass.ORDER);
+        hero.addStatusEffect(new StatusEffect(StatusType.SHIELD, 1, 15));
+        HeroSnapshot snapshot = hero.snapshot();
+        int attack = hero.getCurrentAttack();
+        int maxMana = hero.getCurrentMaxMana();
+
+        for (int round = 0; round < 2; round++) {
+            hero.levelUp(HeroClass.ORDER);            // Order reaches 5: specializes
+            hero.levelUp(HeroClass.CHAOS);
+            hero.processStatusEffects();              // shield effect expires
+            hero.takeDamage(500);
+            assertFalse(hero.isAlive());
+
+            hero.restore(snapshot);
+            assertTrue(hero.isAlive());
+            assertEquals(4, hero.getLevel());
+            assertEquals(0, hero.getClassLevel(HeroClass.CHAOS));
+            assertNull(hero.getSpecializationClass());
+            assertEquals(attack, hero.getCurrentAttack());
+            assertEquals(maxMana, hero.getCurrentMaxMana());
+            assertEquals(15, hero.getShieldAmount());
+            assertEquals(1, hero.getStatusEffects().get(0).getDuration());
+            assertEquals(snapshot.getCurrentHealth(), hero.getCurrentHealth());
+        }
+    }
+
+    // =========================================================================
+    // 22. Bulk level-up, experience thresholds and the level cap
+    // =========================================================================
+
+    @Test
+    public void testBulkLevelUpMatchesSingleLevelUps() {
+        for (HeroClass heroClass : new HeroClass[]{HeroClass.ORDER, HeroClass.CHAOS, HeroClass.WARRIOR, HeroClass.MAGE}) {
+            Hero single = new Hero("Single", HeroClass.WARRIOR);
+            Hero bulk = new Hero("Bulk", HeroClass.WARRIOR);
+            for (int i = 0; i < 6; i++) single.levelUp(heroClass);
+            bulk.levelUp(heroClass, 6);
+            for (int i = 0; i < 4; i++) single.levelUp(HeroClass.MAGE);
+            bulk.levelUp(HeroClass.MAGE, 4);
+
+            assertEquals(single.getLevel(), bulk.getLevel());
+            assertEquals(single.getSpecializationClass(), bulk.getSpecializationClass());
+            assertEquals(single.getHybridClass(), bulk.getHybridClass());
+            assertEquals(single.getCurrentAttack(), bulk.getCurrentAttack());
+            assertEquals(single.getCurrentDefense(), bulk.getCurrentDefense());
+            assertEquals(single.getCurrentMaxHealth(), bulk.getCurrentMaxHealth());
+            assertEquals(single.getCurrentMaxMana(), bulk.getCurrentMaxMana());
+        }
+    }
+
+    @Test
+    public void testGainExperienceUsesThresholdsAndCapsAtMaxLevel() {
+        Hero hero = new Hero("Climber", HeroClass.ORDER);
+        assertEquals(595, Hero.expToLevelUp(1));
+        hero.gainExperience(594);
+        assertEquals(1, hero.getLevel());
+        hero.gainExperience(1 + Hero.expToLevelUp(2) + 7);
+        assertEquals(3, hero.getLevel());
+        assertEquals(7, hero.getExperience());
+
+        hero.gainExperience(Integer.MAX_VALUE);
+        assertEquals(Hero.MAX_LEVEL, hero.getLevel());
+        assertEquals(0, hero.getExperience());
+        hero.gainExperience(1_000_000);
+        assertEquals(Hero.MAX_LEVEL, hero.getLevel());
+        assertEquals(0, Hero.expToLevelUp(Hero.MAX_LEVEL));
+    }
+
+    @Test
+    public void testBatchRewardsSumExperienceAcrossBattles() {
+        Hero a = new Hero("A", HeroClass.WARRIOR);
+        Hero b = new Hero("B", HeroClass.MAGE);
+        b.takeDamage(10_000);
+        Hero enemy1 = new Hero("E1", HeroClass.CHAOS);
+        enemy1.levelUp(HeroClass.CHAOS, 3); // level 4
+        Hero enemy2 = new Hero("E2", HeroClass.ORDER);
+        enemy2.levelUp(HeroClass.ORDER, 9); // level 10
+
+        List<BattleResult> battles = Arrays.asList(
+                new BattleResult(Arrays.asList(a, b), Collections.singletonList(enemy1), false),
+                new BattleResult(Collections.singletonList(a), Collections.singletonList(enemy2), false),
+                new BattleResult(Collections.emptyList(), Collections.emptyList(), true));
+        long gold = BattleRewards.awardAll(battles);
+
+        assertEquals(75L * 14, gold);
+        // 200 + 500 exp to the only survivor: one level (595) plus the remainder
+        assertEquals(2, a.getLevel());
+        assertEquals(700 - 595, a.getExperience());
+        assertEquals(0, b.getExperience());
+    }
+
+    @Test
+    public void testLevelUpCannotPassLevelCap() {
+        Hero hero = new Hero("Capped", HeroClass.WARRIOR);
+        assertThrows(IllegalArgumentException.class, () -> hero.levelUp(HeroClass.WARRIOR, Hero.MAX_LEVEL));
+        assertEquals(1, hero.getLevel()); // rejected before any change
+
+        hero.levelUp(HeroClass.WARRIOR, Hero.MAX_LEVEL - 1);
+        assertEquals(Hero.MAX_LEVEL, hero.getLevel());
+        assertThrows(IllegalArgumentException.class, () -> hero.levelUp(HeroClass.MAGE));
+        assertEquals(Hero.MAX_LEVEL, hero.getLevel());
+    }
+}
@@ -0,0 +1,116 @@
+package persistence;
+
+import model.Campaign;
+import model.HallOfFameEntry;
+import model.Hero;
+import model.HeroClass;
+import model.RoomType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import persistence.impl.FileHallOfFameRepository;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileHallOfFameRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    // =========================================================================
+    // 1. Only the best scores are kept, across reopen and compaction
+    // =========================================================================
+
+    @Test
+    public void testKeepsTopScoresAndCompacts() throws Exception {
+        Path file = dir.resolve("hall-of-fame.dat");
+        List<Long> scores = new ArrayList<>();
+        try (FileHallOfFameRepository hall = new FileHallOfFameRepository(file, 10)) {
+            for (int i = 0; i < 1000; i++) {
+                long score = (i * 7919L) % 1000;
+                scores.add(score);
+                hall.add(new HallOfFameEntry("p" + i, score));
+            }
+            // The file never grows past the compaction threshold
+            assertTrue(hall.fileRecords() < 40);
+        }
+        scores.sort(Collections.reverseOrder());
+
+        Files.write(file, new byte[]{1, 2, 3}, StandardOpenOption.APPEND); // Torn record
+        try (FileHallOfFameRepository hall = new FileHallOfFameRepository(file, 10)) {
+            List<HallOfFameEntry> top = hall.top(100);
+            assertEquals(10, top.size());
+            for (int i = 0; i < 10; i++) assertEquals(scores.get(i), top.get(i).getScore());
+            assertEquals(3, hall.top(3).size());
+            assertFalse(hall.offer(new HallOfFameEntry("low", 0)));
+            assertTrue(hall.offer(new HallOfFameEntry("high", 5000)));
+            assertEquals("high", hall.top(1).get(0).getPlayer());
+        }
+
+        // Scoring a finished campaign: 100 per level, 10 per gold, plus item points
+        Campaign campaign = new Campaign(List.of(new Hero("Solo", HeroClass.MAGE)), 1L);
+        campaign.addGold(30);
+        campaign.addItemPoints(1000);
+        assertThrows(IllegalStateException.class, () -> HallOfFameEntry.of("solo", campaign));
+        while (!campaign.isFinished()) campaign.completeRoom(RoomType.INN, 1);
+        assertEquals(100 + 300 + 1000, HallOfFameEntry.of("solo", campaign).getScore());
+    }
+
+    // =========================================================================
+    // 2. Concurrent submissions
+    // =========================================================================
+
+    @Test
+    public void testConcurrentOffers() throws Exception {
+        Path file = dir.resolve("concurrent.dat");
+        try (FileHallOfFameRepository hall = new FileHallOfFameRepository(file, 20)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                long seed = t;
+                Thread thread = new Thread(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 5000; i++) {
+                        hall.add(new HallOfFameEntry("t" + seed, random.nextLong(1_000_000)));
+                        hall.top(5); // Readers run alongside writers
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) thread.join();
+
+            List<Long> expected = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                SplittableRandom random = new SplittableRandom(t);
+                for (int i = 0; i < 5000; i++) expected.add(random.nextLong(1_000_000));
+            }
+            expected.sort(Collections.reverseOrder());
+            List<HallOfFameEntry> top = hall.top(20);
+            for (int i = 0; i < 20; i++) assertEquals(expected.get(i), top.get(i).getScore());
+        }
+    }
+
+    // =========================================================================
+    // 3. A score that cannot be written is never published
+    // =========================================================================
+
+    @Test
+    public void testFailedAppendIsNotVisible() {
+        Path file = dir.resolve("failing.dat");
+        FileHallOfFameRepository hall = new FileHallOfFameRepository(file, 3);
+        hall.add(new HallOfFameEntry("kept", 10));
+        hall.close(); // Every later write fails
+
+        assertThrows(UncheckedIOException.class, () -> hall.offer(new HallOfFameEntry("lost", 99)));
+        assertEquals(1, hall.top(10).size());
+        assertEquals("kept", hall.top(10).get(0).getPlayer());
+    }
+}
@@ -0,0 +1,234 @@
+package persistence;
+
+import model.HallOfFameEntry;
+import model.Hero;
+import model.HeroClass;
+import model.LeagueRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import persistence.impl.JdbcDatabase;
+import persistence.impl.JdbcHallOfFameRepository;
+import persistence.impl.JdbcLeagueRepository;
+import persistence.impl.JdbcPartyRepository;
+import persistence.impl.JdbcProfileRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JdbcRepositoryTest {
+
+    private JdbcDatabase database;
+
+    @BeforeEach
+    public void openDatabase() {
+        database = new JdbcDatabase("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "", 2);
+    }
+
+    @AfterEach
+    public void closeDatabase() {
+        database.close();
+    }
+
+    // =========================================================================
+    // 1. Profiles
+    // =========================================================================
+
+    @Test
+    public void testProfileCrud() {
+        ProfileRepository repo = new JdbcProfileRepository(database);
+        long id = repo.create(new Hero("Solo", HeroClass.ORDER));
+        Hero loaded = repo.find(id).orElseThrow();
+        loaded.levelUp(HeroClass.ORDER);
+        repo.update(id, loaded);
+        assertEquals(2, repo.find(id).orElseThrow().getLevel());
+        assertEquals(1, repo.count());
+        assertTrue(repo.delete(id));
+        assertTrue(repo.find(id).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> repo.update(id, loaded));
+    }
+
+    // =========================================================================
+    // 2. Parties: batched saves and one-query bulk load (both write modes)
+    // =========================================================================
+
+    @Test
+    public void testPartiesBatchedAndPerHero() {
+        for (boolean batched : new boolean[] {true, false}) {
+            PartyRepository repo = new JdbcPartyRepository(database, batched);
+            String player = "p" + batched;
+            Map<PartyKey, List<Hero>> parties = new LinkedHashMap<>();
+            parties.put(new PartyKey(player, 4), List.of(new Hero("D", HeroClass.MAGE)));
+            parties.put(new PartyKey(player, 1), Arrays.asList(
+                    new Hero("A", HeroClass.WARRIOR), new Hero("B", HeroClass.CHAOS), new Hero("C", HeroClass.ORDER)));
+            repo.saveAll(parties);
+            repo.save(player, 1, Arrays.asList(new Hero("E", HeroClass.WARRIOR), new Hero("F", HeroClass.MAGE)));
+
+            List<List<Hero>> all = repo.loadAll(player);
+            assertEquals(2, all.size());
+            assertEquals("E", all.get(0).get(0).getName());
+            assertEquals("F", all.get(0).get(1).getName());
+            assertEquals(2, all.get(0).size());
+            assertEquals("D", all.get(1).get(0).getName());
+
+            assertTrue(repo.delete(player, 4));
+            assertTrue(repo.load(player, 4).isEmpty());
+            assertEquals(1, repo.loadAll(player).size());
+        }
+    }
+
+    // =========================================================================
+    // 3. League table and hall of fame
+    // =========================================================================
+
+    @Test
+    public void testLeagueAndHallOfFame() {
+        LeagueRepository league = new JdbcLeagueRepository(database);
+        league.recordResult("ann", "ben");
+        league.recordResult("ann", "cat");
+        league.recordResult("cat", "ben");
+        LeagueRecord ann = league.find("ann");
+        assertEquals(2, ann.getWins());
+        assertEquals(0, ann.getLosses());
+        assertEquals(0, league.find("nobody").getGamesPlayed());
+        List<LeagueRecord> standings = league.standings();
+        assertEquals("ann", standings.get(0).getPlayer());
+        assertEquals("cat", standings.get(1).getPlayer());
+        assertEquals("ben", standings.get(2).getPlayer());
+
+        HallOfFameRepository hallOfFame = new JdbcHallOfFameRepository(database);
+        hallOfFame.add(new HallOfFameEntry("ann", 1200));
+        hallOfFame.add(new HallOfFameEntry("ben", 5400));
+        hallOfFame.add(new HallOfFameEntry("cat", 300));
+        List<HallOfFameEntry> top = hallOfFame.top(2);
+        assertEquals(2, top.size());
+        assertEquals("ben", top.get(0).getPlayer());
+        assertEquals(1200, top.get(1).getScore());
+    }
+
+    // =========================================================================
+    // 4. Failed work leaves nothing behind on the pooled connection
+    // =========================================================================
+
+    @Test
+    public void testFailedWorkIsRolledBackAndBatchCleared() {
+        String insert = "INSERT INTO league (player, wins, losses) VALUES (?, ?, ?)";
+        String count = "SELECT COUNT(*) FROM league";
+        try (JdbcDatabase single = new JdbcDatabase(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "", 1)) {
+            // An Error after a write: the write must not survive into the next commit
+            assertThrows(AssertionError.class, () -> single.transaction(session -> {
+                PreparedStatement statement = session.prepare(insert);
+                statement.setString(1, "ghost");
+                statement.setInt(2, 1);
+                statement.setInt(3, 0);
+                statement.executeUpdate();
+                throw new AssertionError("boom");
+            }));
+            // A failure between addBatch and executeBatch: the queued row must be dropped
+            assertThrows(IllegalStateException.class, () -> single.transaction(session -> {
+                PreparedStatement statement = session.prepare(insert);
+                statement.setString(1, "queued");
+                statement.setInt(2, 1);
+                statement.setInt(3, 0);
+                statement.addBatch();
+                throw new IllegalStateException("boom");
+            }));
+
+            int replayed = single.transaction(session -> session.prepare(insert).executeBatch().length);
+            assertEquals(0, replayed);
+            long rows = single.transaction(session -> {
+                try (ResultSet result = session.prepare(count).executeQuery()) {
+                    result.next();
+                    return result.getLong(1);
+                }
+            });
+            assertEquals(0, rows);
+        }
+    }
+
+    // =========================================================================
+    // 5. Concurrent first results for the same player are all counted
+    // =========================================================================
+
+    @Test
+    public void testConcurrentFirstResultsAreAllCounted() throws Exception {
+        int threads = 8;
+        int players = 25;
+        try (JdbcDatabase pooled = new JdbcDatabase(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "", threads)) {
+            LeagueRepository league = new JdbcLeagueRepository(pooled);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                for (int p = 0; p < players; p++) {
+                    String champion = "champ" + p;
+                    CyclicBarrier start = new CyclicBarrier(threads);
+                    List<Future<?>> results = new ArrayList<>();
+                    for (int t = 0; t < threads; t++) {
+                        String loser = "loser" + p + "-" + t;
+                        results.add(executor.submit(() -> {
+                            start.await();
+                            league.recordResult(champion, loser);
+                            return null;
+                        }));
+                    }
+                    for (Future<?> result : results) result.get();
+                    assertEquals(threads, league.find(champion).getWins());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    // =========================================================================
+    // 6. A closed database fails fast instead of blocking
+    // =========================================================================
+
+    @Test
+    public void testTransactionAfterCloseFailsFast() throws Exception {
+        JdbcDatabase closing = new JdbcDatabase(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "", 1);
+        CountDownLatch borrowed = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> holder = executor.submit(() -> closing.transaction(session -> {
+                borrowed.countDown();
+                try {
+                    closed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+            borrowed.await();
+            Future<?> waiter = executor.submit(() -> closing.transaction(session -> null));
+            closing.close();
+            closed.countDown();
+
+            // The waiting borrower is woken instead of taking the released session
+            ExecutionException woken = assertThrows(ExecutionException.class, () -> waiter.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, woken.getCause());
+            assertThrows(ExecutionException.class, () -> holder.get(10, TimeUnit.SECONDS)); // its connection was closed
+            assertThrows(IllegalStateException.class, () -> closing.transaction(session -> null));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package persistence;
+
+import model.Hero;
+import model.HeroClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import persistence.impl.MappedPartyRepository;
+import persistence.impl.MappedProfileRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    // =========================================================================
+    // 1. Profiles: CRUD, id stability and reopening
+    // =========================================================================
+
+    @Test
+    public void testProfilesSurviveReopenAndIdsAreNotReused() {
+        Path file = dir.resolve("profiles.dat");
+        long first;
+        long second;
+        try (MappedProfileRepository repo = new MappedProfileRepository(file)) {
+            first = repo.create(new Hero("First", HeroClass.ORDER));
+            second = repo.create(new Hero("Second", HeroClass.MAGE));
+            Hero levelled = repo.find(second).orElseThrow();
+            levelled.levelUp(HeroClass.MAGE);
+            repo.update(second, levelled);
+            assertTrue(repo.delete(first));
+            assertFalse(repo.delete(first));
+            assertThrows(IllegalArgumentException.class, () -> repo.update(first, levelled));
+        }
+
+        try (MappedProfileRepository repo = new MappedProfileRepository(file)) {
+            assertEquals(1, repo.count());
+            assertTrue(repo.find(first).isEmpty());
+            assertEquals(2, repo.find(second).orElseThrow().getLevel());
+            long third = repo.create(new Hero("Third", HeroClass.CHAOS)); // reuses the freed record
+            assertTrue(third > second);
+            assertEquals("Third", repo.find(third).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    public void testDeletedHighestIdIsNotReusedAfterReopen() {
+        Path file = dir.resolve("profiles.dat");
+        long highest;
+        try (MappedProfileRepository repo = new MappedProfileRepository(file)) {
+            repo.create(new Hero("First", HeroClass.ORDER));
+            highest = repo.create(new Hero("Second", HeroClass.MAGE));
+            assertTrue(repo.delete(highest));
+        }
+
+        try (MappedProfileRepository repo = new MappedProfileRepository(file)) {
+            long next = repo.create(new Hero("Third", HeroClass.CHAOS));
+            assertTrue(next > highest);
+        }
+    }
+
+    // =========================================================================
+    // 2. Parties: slots per player
+    // =========================================================================
+
+    @Test
+    public void testPartySlots() {
+        try (MappedPartyRepository repo = new MappedPartyRepository(dir.resolve("parties.dat"))) {
+            repo.save("alice", 0, List.of(new Hero("A1", HeroClass.WARRIOR)));
+            repo.save("alice", 3, Arrays.asList(new Hero("A2", HeroClass.ORDER), new Hero("A3", HeroClass.MAGE)));
+            repo.save("alice", 0, List.of(new Hero("A4", HeroClass.CHAOS))); // overwrite in place
+
+            List<List<Hero>> all = repo.loadAll("alice");
+            assertEquals(2, all.size());
+            assertEquals("A4", all.get(0).get(0).getName());
+            assertEquals(2, all.get(1).size());
+            assertTrue(repo.load("bob", 0).isEmpty());
+            assertTrue(repo.loadAll("bob").isEmpty());
+
+            assertTrue(repo.delete("alice", 3));
+            assertTrue(repo.load("alice", 3).isEmpty());
+            assertThrows(IllegalArgumentException.class,
+                    () -> repo.save("alice", PartyRepository.MAX_SAVED_PARTIES, List.of()));
+        }
+    }
+
+    // =========================================================================
+    // 3. Committed writes are recovered from the WAL after a crash
+    // =========================================================================
+
+    @Test
+    public void testWalReplayAfterCrash() throws Exception {
+        Path file = dir.resolve("parties.dat");
+        Path wal = dir.resolve("parties.dat.wal");
+        new MappedPartyRepository(file).close();
+        Path crashed = Files.createDirectory(dir.resolve("crashed"));
+        Files.copy(file, crashed.resolve("parties.dat")); // data file as it was before the write
+
+        MappedPartyRepository repo = new MappedPartyRepository(file);
+        repo.save("carol", 1, List.of(new Hero("C1", HeroClass.ORDER)));
+        // Simulate a crash after the WAL was forced but before the mapping reached disk
+        Files.copy(wal, crashed.resolve("parties.dat.wal"), StandardCopyOption.REPLACE_EXISTING);
+        Files.write(crashed.resolve("parties.dat.wal"), new byte[] {1, 2, 3}, StandardOpenOption.APPEND); // torn tail
+        repo.close();
+
+        try (MappedPartyRepository recovered = new MappedPartyRepository(crashed.resolve("parties.dat"))) {
+            assertEquals("C1", recovered.load("carol", 1).orElseThrow().get(0).getName());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package persistence;
+
+import model.Hero;
+import model.HeroClass;
+import org.junit.jupiter.api.Test;
+import persistence.impl.WriteBehindPartyRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteBehindPartyRepositoryTest {
+
+    /** In-memory delegate that counts writes and can be made to block or fail. */
+    private static class RecordingRepository implements PartyRepository {
+        final Map<PartyKey, List<Hero>> parties = new HashMap<>();
+        int batches;
+        int partiesWritten;
+        volatile CountDownLatch gate;
+        volatile boolean failing;
+
+        @Override
+        public synchronized void save(String player, int slot, List<Hero> party) {
+            parties.put(new PartyKey(player, slot), party);
+        }
+
+        @Override
+        public void saveAll(Map<PartyKey, List<Hero>> batch) {
+            try {
+                if (gate != null) gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failing) throw new IllegalStateException("disk full");
+            synchronized (this) {
+                batches++;
+                partiesWritten += batch.size();
+                parties.putAll(batch);
+            }
+        }
+
+        @Override
+        public synchronized Optional<List<Hero>> load(String player, int slot) {
+            return Optional.ofNullable(parties.get(new PartyKey(player, slot)));
+        }
+
+        @Override
+        public synchronized List<List<Hero>> loadAll(String player) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public synchronized boolean delete(String player, int slot) {
+            return parties.remove(new PartyKey(player, slot)) != null;
+        }
+    }
+
+    // =========================================================================
+    // 1. Repeated saves are coalesced and flushed by the barrier
+    // =========================================================================
+
+    @Test
+    public void testCoalescingAndFlushBarrier() {
+        RecordingRepository delegate = new RecordingRepository();
+        try (WriteBehindPartyRepository repo =
+                     new WriteBehindPartyRepository(delegate, 100, Duration.ofMinutes(1), 100)) {
+            Hero hero = new Hero("Runner", HeroClass.WARRIOR);
+            for (int room = 0; room < 30; room++) {
+                hero.gainExperience(100);
+                repo.save("dave", 0, List.of(hero));
+            }
+            assertEquals(hero.getExperience(), repo.load("dave", 0).orElseThrow().get(0).getExperience());
+            assertEquals(0, delegate.partiesWritten);
+
+            repo.flush();
+            assertEquals(1, delegate.batches);
+            assertEquals(1, delegate.partiesWritten);
+            assertEquals(hero.getExperience(), delegate.parties.get(new PartyKey("dave", 0)).get(0).getExperience());
+
+            assertTrue(repo.delete("dave", 0));
+            assertTrue(repo.load("dave", 0).isEmpty());
+            repo.flush();
+            assertTrue(delegate.parties.isEmpty());
+        }
+    }
+
+    // =========================================================================
+    // 2. Saves block when the buffer is full
+    // =========================================================================
+
+    @Test
+    public void testBackPressureWhenFlusherFallsBehind() throws Exception {
+        RecordingRepository delegate = new RecordingRepository();
+        delegate.gate = new CountDownLatch(1);
+        try (WriteBehindPartyRepository repo =
+                     new WriteBehindPartyRepository(delegate, 1, Duration.ofMillis(10), 2)) {
+            repo.save("erin", 0, List.of()); // taken by the flusher, which then blocks
+            while (repo.pendingCount() > 0) Thread.sleep(1);
+            repo.save("erin", 1, List.of());
+            repo.save("erin", 2, List.of());
+
+            CountDownLatch saved = new CountDownLatch(1);
+            Thread writer = new Thread(() -> {
+                repo.save("erin", 3, List.of());
+                saved.countDown();
+            });
+            writer.start();
+            assertFalse(saved.await(100, TimeUnit.MILLISECONDS));
+
+            delegate.gate.countDown();
+            assertTrue(saved.await(5, TimeUnit.SECONDS));
+            repo.flush();
+            assertEquals(4, delegate.parties.size());
+        }
+    }
+
+    // =========================================================================
+    // 3. Delegate failures surface at the barrier
+    // =========================================================================
+
+    @Test
+    public void testFlushReportsDelegateFailure() {
+        RecordingRepository delegate = new RecordingRepository();
+        delegate.failing = true;
+        WriteBehindPartyRepository repo =
+                new WriteBehindPartyRepository(delegate, 10, Duration.ofMillis(10), 10);
+        repo.save("fay", 0, List.of());
+        assertThrows(IllegalStateException.class, repo::flush);
+
+        delegate.failing = false; // the kept batch is retried
+        repo.close();
+        assertEquals(1, delegate.partiesWritten);
+    }
+}
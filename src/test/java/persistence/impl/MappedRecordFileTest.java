@@ -0,0 +1,107 @@
+package persistence.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedRecordFileTest {
+
+    @TempDir
+    Path dir;
+
+    // =========================================================================
+    // 1. A commit that fails mid-write loses nothing committed after it
+    // =========================================================================
+
+    @Test
+    public void testFailedWalWriteIsCutBackAndRetried() throws IOException {
+        Path path = dir.resolve("records.dat");
+        new MappedRecordFile(path, Long.BYTES, true).close();
+        Path crashed = Files.createDirectory(dir.resolve("crashed"));
+        Files.copy(path, crashed.resolve("records.dat")); // data file as it was before the writes
+
+        FailingChannel wal = new FailingChannel(FileChannel.open(dir.resolve("records.dat.wal"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE));
+        MappedRecordFile file = new MappedRecordFile(path, Long.BYTES, true, wal);
+        write(file, 1L);
+        file.commit();
+        long committed = wal.size();
+
+        wal.failWrites = true;
+        write(file, 2L);
+        assertThrows(UncheckedIOException.class, file::commit);
+        assertEquals(committed, wal.size()); // torn bytes cut off
+        assertFalse(file.isUsed(1));         // not visible until it is committed
+
+        wal.failWrites = false;
+        write(file, 3L);
+        file.commit(); // retries the failed batch along with the new write
+        assertEquals(2L, file.read(1).getLong());
+
+        // Simulate a crash before the mapping reached disk: every commit must replay
+        Files.copy(dir.resolve("records.dat.wal"), crashed.resolve("records.dat.wal"),
+                StandardCopyOption.REPLACE_EXISTING);
+        file.close();
+        try (MappedRecordFile recovered = new MappedRecordFile(crashed.resolve("records.dat"), Long.BYTES, true)) {
+            assertEquals(3, recovered.highWater());
+            for (int slot = 0; slot < 3; slot++) assertEquals(slot + 1L, recovered.read(slot).getLong());
+        }
+    }
+
+    private static void write(MappedRecordFile file, long value) {
+        file.write(file.allocate(), ByteBuffer.allocate(Long.BYTES).putLong(0, value));
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    /** Delegating channel whose positional writes can be made to fail halfway through. */
+    private static final class FailingChannel extends FileChannel {
+        private final FileChannel delegate;
+        boolean failWrites;
+
+        FailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            if (!failWrites) return delegate.write(src, position);
+            ByteBuffer half = src.slice(src.position(), src.remaining() / 2);
+            delegate.write(half, position);
+            throw new IOException("Disk full");
+        }
+
+        @Override public int read(ByteBuffer dst) throws IOException { return delegate.read(dst); }
+        @Override public long read(ByteBuffer[] dsts, int offset, int length) throws IOException { return delegate.read(dsts, offset, length); }
+        @Override public int write(ByteBuffer src) throws IOException { return delegate.write(src); }
+        @Override public long write(ByteBuffer[] srcs, int offset, int length) throws IOException { return delegate.write(srcs, offset, length); }
+        @Override public long position() throws IOException { return delegate.position(); }
+        @Override public FileChannel position(long newPosition) throws IOException { delegate.position(newPosition); return this; }
+        @Override public long size() throws IOException { return delegate.size(); }
+        @Override public FileChannel truncate(long size) throws IOException { delegate.truncate(size); return this; }
+        @Override public void force(boolean metaData) throws IOException { delegate.force(metaData); }
+        @Override public long transferTo(long position, long count, WritableByteChannel target) throws IOException { return delegate.transferTo(position, count, target); }
+        @Override public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException { return delegate.transferFrom(src, position, count); }
+        @Override public int read(ByteBuffer dst, long position) throws IOException { return delegate.read(dst, position); }
+        @Override public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException { return delegate.map(mode, position, size); }
+        @Override public FileLock lock(long position, long size, boolean shared) throws IOException { return delegate.lock(position, size, shared); }
+        @Override public FileLock tryLock(long position, long size, boolean shared) throws IOException { return delegate.tryLock(position, size, shared); }
+        @Override protected void implCloseChannel() throws IOException { delegate.close(); }
+    }
+}
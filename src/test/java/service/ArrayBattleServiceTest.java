@@ -0,0 +1,112 @@
+package service;
+
+import model.BattleResult;
+import model.Hero;
+import model.HeroClass;
+import model.StatusEffect;
+import model.StatusType;
+import org.junit.jupiter.api.Test;
+import service.impl.ArrayBattleServiceImpl;
+import service.impl.BattleServiceImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayBattleServiceTest {
+
+    private static final HeroClass[] CLASSES = {
+            HeroClass.ORDER, HeroClass.CHAOS, HeroClass.WARRIOR, HeroClass.MAGE
+    };
+
+    private final BattleService reference = new BattleServiceImpl();
+    private final BattleService arrays = new ArrayBattleServiceImpl();
+
+    // =========================================================================
+    // 1. Same seed gives the same battle as BattleServiceImpl
+    // =========================================================================
+
+    @Test
+    public void testMatchesReferenceEngineOnRandomMatchups() {
+        Random generator = new Random(2203);
+        for (int match = 0; match < 300; match++) {
+            List<Hero> teamA = randomTeam(generator, "A");
+            List<Hero> teamB = randomTeam(generator, "B");
+            long seed = generator.nextLong();
+
+            List<Hero> refA = copy(teamA);
+            List<Hero> refB = copy(teamB);
+            BattleResult expected = reference.startBattle(refA, refB, seed);
+            BattleResult actual = arrays.startBattle(teamA, teamB, seed);
+
+            assertEquals(expected.isDraw(), actual.isDraw(), "draw, match " + match);
+            assertEquals(expected.getRounds(), actual.getRounds(), "rounds, match " + match);
+            assertEquals(names(expected.getWinningTeam()), names(actual.getWinningTeam()), "winners, match " + match);
+            assertEquals(names(expected.getLosingTeam()), names(actual.getLosingTeam()), "losers, match " + match);
+            assertSameState(refA, teamA, match);
+            assertSameState(refB, teamB, match);
+        }
+    }
+
+    // =========================================================================
+    // 2. Final state is written back, including status effects
+    // =========================================================================
+
+    @Test
+    public void testWritesBackStatusEffectsAndStun() {
+        Hero a = new Hero("A", HeroClass.CHAOS);
+        for (int i = 0; i < 10; i++) a.levelUp(HeroClass.CHAOS);
+        Hero b = new Hero("B", HeroClass.ORDER);
+        b.addStatusEffect(new StatusEffect(StatusType.STUN, 5));
+
+        arrays.startBattle(Collections.singletonList(a), Collections.singletonList(b), 1L);
+
+        assertFalse(b.isAlive());
+        assertEquals(0, b.getCurrentHealth());
+        // B died while stunned, so its stun was never ticked off
+        assertTrue(b.isStunned());
+        assertEquals(1, b.getStatusEffects().size());
+        assertTrue(b.getStatusEffects().get(0).getDuration() < 5);
+    }
+
+    private static void assertSameState(List<Hero> expected, List<Hero> actual, int match) {
+        for (int i = 0; i < expected.size(); i++) {
+            Hero e = expected.get(i);
+            Hero a = actual.get(i);
+            String where = e.getName() + ", match " + match;
+            assertEquals(e.getCurrentHealth(), a.getCurrentHealth(), "hp " + where);
+            assertEquals(e.getCurrentMana(), a.getCurrentMana(), "mana " + where);
+            assertEquals(e.getShieldAmount(), a.getShieldAmount(), "shield " + where);
+            assertEquals(e.isAlive(), a.isAlive(), "alive " + where);
+            assertEquals(e.isStunned(), a.isStunned(), "stunned " + where);
+            assertEquals(e.getStatusEffects().size(), a.getStatusEffects().size(), "effects " + where);
+        }
+    }
+
+    private static List<Hero> randomTeam(Random generator, String prefix) {
+        int size = 1 + generator.nextInt(5);
+        List<Hero> team = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Hero hero = new Hero(prefix + i, CLASSES[generator.nextInt(CLASSES.length)]);
+            int levels = generator.nextInt(15);
+            for (int l = 0; l < levels; l++) hero.levelUp(CLASSES[generator.nextInt(CLASSES.length)]);
+            team.add(hero);
+        }
+        return team;
+    }
+
+    private static List<Hero> copy(List<Hero> team) {
+        List<Hero> copy = new ArrayList<>();
+        for (Hero hero : team) copy.add(new Hero(hero));
+        return copy;
+    }
+
+    private static List<String> names(List<Hero> team) {
+        List<String> names = new ArrayList<>();
+        for (Hero hero : team) names.add(hero.getName());
+        return names;
+    }
+}
@@ -1,14 +1,21 @@
 package service;
 
+import model.Action;
+import model.BattleEventLog;
+import model.BattleLogSummary;
+import model.BattleMetrics;
+import model.BattleMetricsSnapshot;
 import model.BattleResult;
 import model.Hero;
 import model.HeroClass;
+import model.IsolatedBattle;
 import org.junit.jupiter.api.Test;
 import service.impl.BattleServiceImpl;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -131,4 +138,131 @@ public class BattleServiceTest {
         assertFalse(result.getWinningTeam().isEmpty());
         assertFalse(result.getLosingTeam().isEmpty());
     }
+
+    // =========================================================================
+    // 6. Same seed replays the same battle
+    // =========================================================================
+
+    @Test
+    public void testSameSeedReplaysSameBattle() {
+        int[] first  = seededBattleOutcome(99L);
+        int[] second = seededBattleOutcome(99L);
+        assertArrayEquals(first, second);
+    }
+
+    private int[] seededBattleOutcome(long seed) {
+        List<Hero> teamA = Arrays.asList(new Hero("A1", HeroClass.CHAOS), new Hero("A2", HeroClass.WARRIOR),
+                new Hero("A3", HeroClass.ORDER));
+        List<Hero> teamB = Arrays.asList(new Hero("B1", HeroClass.MAGE), new Hero("B2", HeroClass.CHAOS),
+                new Hero("B3", HeroClass.WARRIOR));
+        for (int i = 0; i < 4; i++) {
+            teamA.get(0).levelUp(HeroClass.CHAOS);
+            teamB.get(1).levelUp(HeroClass.CHAOS);
+            teamA.get(1).levelUp(HeroClass.WARRIOR);
+            teamB.get(2).levelUp(HeroClass.WARRIOR);
+        }
+        BattleResult result = battleService.startBattle(teamA, teamB, seed);
+        int[] outcome = new int[7];
+        for (int i = 0; i < 3; i++) {
+            outcome[i]     = teamA.get(i).getCurrentHealth();
+            outcome[i + 3] = teamB.get(i).getCurrentHealth();
+        }
+        outcome[6] = result.getRounds();
+        return outcome;
+    }
+
+    // =========================================================================
+    // 7. Isolated battles only touch the parties on commit
+    // =========================================================================
+
+    @Test
+    public void testIsolatedBattleLeavesPartiesUntilCommit() {
+        Hero strong = new Hero("Strong", HeroClass.CHAOS);
+        for (int i = 0; i < 10; i++) strong.levelUp(HeroClass.CHAOS);
+        Hero weak = new Hero("Weak", HeroClass.ORDER);
+        List<Hero> teamA = Collections.singletonList(strong);
+        List<Hero> teamB = Collections.singletonList(weak);
+
+        IsolatedBattle battle = battleService.startIsolatedBattle(teamA, teamB, 7L);
+        assertSame(battle.getTeamA().get(0), battle.getResult().getWinningTeam().get(0));
+        assertFalse(battle.getTeamB().get(0).isAlive());
+        assertTrue(weak.isAlive());
+        assertEquals(100, weak.getCurrentHealth());
+
+        battle.commit();
+        assertFalse(weak.isAlive());
+        assertEquals(battle.getTeamA().get(0).getCurrentHealth(), strong.getCurrentHealth());
+        assertThrows(IllegalStateException.class, battle::commit);
+    }
+
+    // =========================================================================
+    // 8. Metrics agree with the event log and do not change the outcome
+    // =========================================================================
+
+    @Test
+    public void testMetricsMatchEventLog() {
+        BattleMetrics metrics = new BattleMetrics();
+        BattleServiceImpl measured = new BattleServiceImpl(metrics);
+        BattleEventLog log = new BattleEventLog();
+        long actions = 0;
+        long absorbed = 0;
+        int battles = 20;
+
+        for (long seed = 1; seed <= battles; seed++) {
+            BattleResult plain = battleService.startBattle(mixedTeam("A", 4), mixedTeam("B", 0), seed);
+            List<Hero> teamA = mixedTeam("A", 4);
+            List<Hero> teamB = mixedTeam("B", 0);
+            BattleResult result = measured.startBattle(teamA, teamB, new SplittableRandom(seed), log);
+            assertEquals(plain.getRounds(), result.getRounds());
+
+            BattleLogSummary summary = BattleLogSummary.of(log);
+            for (int i = 0; i < teamA.size(); i++) {
+                for (int id : new int[] {i, BattleEventLog.TEAM_B_OFFSET + i}) {
+                    actions += summary.getActions(id);
+                    absorbed += summary.getShieldAbsorbed(id);
+                }
+            }
+            // The tally's listener is gone again once the battle is over
+            assertNull(teamA.get(0).getEventListener());
+        }
+
+        BattleMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(battles, snapshot.getBattles());
+        assertEquals(battles, Arrays.stream(snapshot.getRoundHistogram()).sum());
+        assertEquals(battles, Arrays.stream(snapshot.getNanosHistogram()).sum());
+        long counted = 0;
+        for (Action action : Action.values()) counted += snapshot.getActions(action);
+        assertEquals(actions, counted);
+        assertEquals(snapshot.getActions(Action.CAST),
+                snapshot.getCasts().values().stream().mapToLong(Long::longValue).sum());
+        assertTrue(snapshot.getCasts("Protect") > 0);
+        assertTrue(absorbed > 0);
+        assertEquals(absorbed, snapshot.getShieldAbsorbed());
+        assertEquals(0, snapshot.getCapDraws());
+        assertNull(battleService.getMetrics());
+    }
+
+    @Test
+    public void testMetricsCountRoundCapDraws() {
+        // Fresh heroes cannot get through each other's defense, so the cap ends the battle
+        BattleMetrics metrics = new BattleMetrics();
+        BattleResult result = new BattleServiceImpl(metrics)
+                .startBattle(mixedTeam("A", 0), mixedTeam("B", 0), 3L);
+
+        assertTrue(result.isDraw());
+        BattleMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getCapDraws());
+        assertEquals(1, snapshot.getRoundHistogram()[BattleMetrics.ROUND_BUCKETS - 1]);
+    }
+
+    /** Order, Chaos and Mage heroes, each levelled {@code levels} times in its own class. */
+    private static List<Hero> mixedTeam(String prefix, int levels) {
+        List<Hero> team = Arrays.asList(new Hero(prefix + "1", HeroClass.ORDER),
+                new Hero(prefix + "2", HeroClass.CHAOS),
+                new Hero(prefix + "3", HeroClass.MAGE));
+        if (levels > 0) {
+            for (Hero hero : team) hero.levelUp(hero.getHeroClass(), levels);
+        }
+        return team;
+    }
 }
@@ -0,0 +1,147 @@
+package service;
+
+import model.BattleResult;
+import model.Hero;
+import model.HeroClass;
+import model.SimulationResult;
+import org.junit.jupiter.api.Test;
+import service.impl.BattleServiceImpl;
+import service.impl.BattleSimulationServiceImpl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BattleSimulationServiceTest {
+
+    private final BattleSimulationService simulator = new BattleSimulationServiceImpl();
+
+    // =========================================================================
+    // 1. Stronger team wins every run
+    // =========================================================================
+
+    @Test
+    public void testStrongerTeamWinsEveryRun() {
+        Hero strong = new Hero("Strong", HeroClass.CHAOS);
+        for (int i = 0; i < 10; i++) strong.levelUp(HeroClass.CHAOS);
+        Hero weak = new Hero("Weak", HeroClass.ORDER);
+
+        SimulationResult result = simulator.simulate(
+                Collections.singletonList(strong), Collections.singletonList(weak), 200);
+
+        assertEquals(200, result.getIterations());
+        assertEquals(1.0, result.getTeamAWinRate());
+        assertEquals(0.0, result.getDrawRate());
+        assertEquals(1.0, result.getTeamASurvivalRate(0));
+        assertEquals(0.0, result.getTeamBSurvivalRate(0));
+        assertTrue(result.getMeanRounds() >= 1);
+    }
+
+    // =========================================================================
+    // 2. Templates are never mutated
+    // =========================================================================
+
+    @Test
+    public void testTemplatesAreNotMutated() {
+        Hero strong = new Hero("Strong", HeroClass.CHAOS);
+        for (int i = 0; i < 10; i++) strong.levelUp(HeroClass.CHAOS);
+        Hero weak = new Hero("Weak", HeroClass.ORDER);
+        int strongManaBefore = strong.getCurrentMana();
+
+        simulator.simulate(Collections.singletonList(strong), Collections.singletonList(weak), 50);
+
+        assertTrue(weak.isAlive());
+        assertEquals(weak.getCurrentMaxHealth(), weak.getCurrentHealth());
+        assertEquals(strongManaBefore, strong.getCurrentMana());
+    }
+
+    // =========================================================================
+    // 3. Draws are counted and all iterations are accounted for
+    // =========================================================================
+
+    @Test
+    public void testDrawsCountedWithCustomExecutor() {
+        Hero a = new Hero("TankA", HeroClass.ORDER);
+        Hero b = new Hero("TankB", HeroClass.ORDER);
+        for (int i = 0; i < 15; i++) {
+            a.levelUp(HeroClass.ORDER);
+            b.levelUp(HeroClass.ORDER);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            BattleSimulationService custom =
+                    new BattleSimulationServiceImpl(new BattleServiceImpl(), executor, 3);
+            SimulationResult result = custom.simulate(
+                    Collections.singletonList(a), Collections.singletonList(b), 7);
+            assertEquals(7, result.getDraws());
+            assertEquals(1.0, result.getDrawRate());
+            assertEquals(7, result.getTeamAWins() + result.getTeamBWins() + result.getDraws());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectsNonPositiveIterations() {
+        List<Hero> team = Arrays.asList(new Hero("X", HeroClass.MAGE));
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulate(team, team, 0));
+    }
+
+    // =========================================================================
+    // 4. Seeded simulations are reproducible across thread counts
+    // =========================================================================
+
+    @Test
+    public void testSeededSimulationIndependentOfParallelism() {
+        List<Hero> teamA = Arrays.asList(new Hero("A1", HeroClass.CHAOS), new Hero("A2", HeroClass.WARRIOR));
+        List<Hero> teamB = Arrays.asList(new Hero("B1", HeroClass.CHAOS), new Hero("B2", HeroClass.MAGE));
+        for (int i = 0; i < 6; i++) {
+            teamA.get(0).levelUp(HeroClass.CHAOS);
+            teamB.get(0).levelUp(HeroClass.CHAOS);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            SimulationResult parallel = simulator.simulate(teamA, teamB, 40, 7L);
+            SimulationResult twoThreads = new BattleSimulationServiceImpl(new BattleServiceImpl(), executor, 2)
+                    .simulate(teamA, teamB, 40, 7L);
+            assertEquals(parallel.getTeamAWins(), twoThreads.getTeamAWins());
+            assertEquals(parallel.getDraws(), twoThreads.getDraws());
+            assertEquals(parallel.getMeanRounds(), twoThreads.getMeanRounds());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // =========================================================================
+    // 5. A failing run stops the remaining runs
+    // =========================================================================
+
+    @Test
+    public void testFailedRunStopsRemainingChunks() throws InterruptedException {
+        AtomicInteger started = new AtomicInteger();
+        BattleService failing = new BattleServiceImpl() {
+            @Override
+            public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB, long seed) {
+                if (started.incrementAndGet() == 3) throw new IllegalStateException("engine failure");
+                return super.startBattle(teamA, teamB, seed);
+            }
+        };
+        List<Hero> team = Collections.singletonList(new Hero("Solo", HeroClass.CHAOS));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            BattleSimulationService failingSimulator = new BattleSimulationServiceImpl(failing, executor, 1);
+            assertThrows(IllegalStateException.class, () -> failingSimulator.simulate(team, team, 100, 1L));
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(3, started.get()); // 100 runs in 4 chunks: the other chunks never fought
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package service;
+
+import model.BattleResult;
+import model.Campaign;
+import model.EncounterTable;
+import model.Hero;
+import model.HeroClass;
+import model.RoomResult;
+import model.RoomType;
+import org.junit.jupiter.api.Test;
+import service.impl.BattleServiceImpl;
+import service.impl.CampaignControllerImpl;
+import service.impl.LevelUpEnemyGenerator;
+import service.impl.TemplateEnemyGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CampaignControllerTest {
+
+    private static List<Hero> party() {
+        List<Hero> party = new ArrayList<>();
+        party.add(new Hero("Aria", HeroClass.WARRIOR));
+        party.add(new Hero("Bram", HeroClass.ORDER));
+        party.add(new Hero("Cade", HeroClass.MAGE));
+        return party;
+    }
+
+    // =========================================================================
+    // 1. Encounter table and enemy scaling
+    // =========================================================================
+
+    @Test
+    public void testEncounterOddsAndEnemyScaling() {
+        assertEquals(60, EncounterTable.battlePercent(0));
+        assertEquals(63, EncounterTable.battlePercent(10));
+        assertEquals(63, EncounterTable.battlePercent(19));
+        assertEquals(90, EncounterTable.battlePercent(100));
+        assertEquals(90, EncounterTable.battlePercent(500));
+
+        LevelUpEnemyGenerator generator = new LevelUpEnemyGenerator();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 200; i++) {
+            int cumulative = 1 + i % 60;
+            List<Hero> enemies = generator.generate(cumulative, random);
+            assertTrue(enemies.size() >= 1 && enemies.size() <= 5);
+            int total = 0;
+            for (Hero enemy : enemies) {
+                assertTrue(enemy.getLevel() >= 1 && enemy.getLevel() <= 10);
+                assertTrue(enemy.getClassAbilities().isEmpty());
+                assertEquals(enemy.getCurrentMaxHealth(), enemy.getCurrentHealth());
+                total += enemy.getLevel();
+            }
+            assertTrue(total <= Math.max(1, cumulative) && total >= Math.max(1, Math.min(cumulative, 50) - 10));
+        }
+    }
+
+    // =========================================================================
+    // 2. A seeded campaign runs 30 rooms and replays identically
+    // =========================================================================
+
+    @Test
+    public void testSeededCampaignIsDeterministic() {
+        CampaignControllerImpl controller = new CampaignControllerImpl(new BattleServiceImpl(), new LevelUpEnemyGenerator());
+        Campaign first = controller.startCampaign(party(), 42L);
+        Campaign second = controller.startCampaign(party(), 42L);
+        while (!first.isFinished()) controller.enterNextRoom(first);
+        while (!second.isFinished()) controller.enterNextRoom(second);
+
+        assertEquals(Campaign.ROOMS, first.getNextRoom());
+        for (int room = 0; room < Campaign.ROOMS; room++) {
+            assertEquals(first.getRoomType(room), second.getRoomType(room));
+            assertTrue(first.getRoomNanos(room) > 0);
+        }
+        assertEquals(first.getGold(), second.getGold());
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(2L * Campaign.ROOMS, controller.getBattleRooms() + controller.getInnRooms());
+        assertThrows(IllegalStateException.class, () -> controller.enterNextRoom(first));
+    }
+
+    // =========================================================================
+    // 3. Defeat costs gold and experience and restores the party
+    // =========================================================================
+
+    @Test
+    public void testDefeatPenalty() {
+        // Every battle is lost: the party is wiped out by the stub
+        BattleService losing = new BattleService() {
+            @Override
+            public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB) {
+                for (Hero hero : teamA) hero.takeDamage(10_000);
+                return new BattleResult(teamB, teamA, false);
+            }
+
+            @Override
+            public BattleResult startBattle(List<Hero> teamA, List<Hero> teamB, long seed) {
+                return startBattle(teamA, teamB);
+            }
+        };
+        CampaignControllerImpl controller = new CampaignControllerImpl(losing, new LevelUpEnemyGenerator());
+        List<Hero> party = party();
+        for (Hero hero : party) hero.gainExperience(100);
+        Campaign campaign = controller.startCampaign(party, 1L);
+        campaign.addGold(1000);
+
+        RoomResult result = controller.enterNextRoom(campaign);
+        while (result.getType() != RoomType.BATTLE) result = controller.enterNextRoom(campaign);
+
+        assertFalse(result.isWon());
+        assertEquals(-100, result.getGoldChange());
+        assertEquals(900, campaign.getGold());
+        for (Hero hero : party) {
+            assertEquals(70, hero.getExperience());
+            assertTrue(hero.isAlive());
+            assertEquals(hero.getCurrentMaxHealth(), hero.getCurrentHealth());
+        }
+    }
+
+    // =========================================================================
+    // 4. Template generator matches the level-up reference
+    // =========================================================================
+
+    @Test
+    public void testTemplateGeneratorMatchesLevelUpGenerator() {
+        LevelUpEnemyGenerator reference = new LevelUpEnemyGenerator();
+        TemplateEnemyGenerator templates = new TemplateEnemyGenerator();
+        SplittableRandom referenceRandom = new SplittableRandom(11);
+        SplittableRandom templateRandom = new SplittableRandom(11);
+        for (int cumulative = 0; cumulative <= EncounterTable.MAX_CUMULATIVE_LEVEL; cumulative++) {
+            List<Hero> expected = reference.generate(cumulative, referenceRandom);
+            List<Hero> actual = templates.generate(cumulative, templateRandom);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Hero e = expected.get(i);
+                Hero a = actual.get(i);
+                assertEquals(e.getName(), a.getName());
+                assertEquals(e.getHeroClass(), a.getHeroClass());
+                assertEquals(e.getLevel(), a.getLevel());
+                assertEquals(e.getCurrentAttack(), a.getCurrentAttack());
+                assertEquals(e.getCurrentDefense(), a.getCurrentDefense());
+                assertEquals(e.getCurrentMaxHealth(), a.getCurrentHealth());
+                assertEquals(e.getCurrentMana(), a.getCurrentMana());
+                assertTrue(a.getClassAbilities().isEmpty());
+            }
+        }
+        // Copies are independent of the templates
+        List<Hero> first = templates.generate(1, new SplittableRandom(3));
+        first.get(0).takeDamage(1000);
+        assertTrue(templates.generate(1, new SplittableRandom(3)).get(0).isAlive());
+    }
+}
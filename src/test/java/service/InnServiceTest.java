@@ -0,0 +1,223 @@
+package service;
+
+import model.Campaign;
+import model.Hero;
+import model.HeroClass;
+import model.Item;
+import model.Purchase;
+import model.RoomType;
+import org.junit.jupiter.api.Test;
+import service.impl.InnServiceImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InnServiceTest {
+
+    private final InnServiceImpl inn = new InnServiceImpl();
+
+    private static Campaign campaign(Hero... heroes) {
+        return campaign(5L, heroes);
+    }
+
+    private static Campaign campaign(long seed, Hero... heroes) {
+        return new Campaign(new ArrayList<>(Arrays.asList(heroes)), seed);
+    }
+
+    // =========================================================================
+    // 1. Baskets are all-or-nothing and applied per hero
+    // =========================================================================
+
+    @Test
+    public void testBasketPurchase() {
+        Hero warrior = new Hero("Warrior", HeroClass.WARRIOR);
+        Hero mage = new Hero("Mage", HeroClass.MAGE);
+        Campaign campaign = campaign(warrior, mage);
+        inn.visitInn(campaign);
+        warrior.takeDamage(90);
+        int warriorHealth = warrior.getCurrentHealth();
+        mage.useMana(40);
+        mage.takeDamage(10_000);
+        campaign.addGold(2000);
+
+        List<Purchase> basket = Arrays.asList(
+                new Purchase(Item.BREAD, warrior), new Purchase(Item.CHEESE, warrior),
+                new Purchase(Item.WATER, mage), new Purchase(Item.JUICE, mage));
+        long itemPrice = 200 + 500 + 150 + 400;
+        assertTrue(inn.purchase(campaign, basket));
+        assertEquals(2000 - itemPrice, campaign.getGold());
+        assertTrue(warriorHealth < warrior.getCurrentMaxHealth());
+        assertEquals(Math.min(warrior.getCurrentMaxHealth(), warriorHealth + 70), warrior.getCurrentHealth());
+        assertEquals(itemPrice * 5, campaign.getItemPoints());
+
+        // Too expensive as a whole: nothing is bought, nothing applied
+        int manaBefore = mage.getCurrentMana();
+        assertFalse(inn.purchase(campaign, Arrays.asList(new Purchase(Item.WINE, mage), new Purchase(Item.ELIXIR, mage))));
+        assertEquals(2000 - itemPrice, campaign.getGold());
+        assertEquals(manaBefore, mage.getCurrentMana());
+        assertFalse(mage.isAlive());
+
+        campaign.addGold(2000);
+        assertTrue(inn.purchase(campaign, Collections.singletonList(new Purchase(Item.ELIXIR, mage))));
+        assertTrue(mage.isAlive());
+        assertEquals(mage.getCurrentMaxHealth(), mage.getCurrentHealth());
+
+        Hero stranger = new Hero("Stranger", HeroClass.ORDER);
+        assertThrows(IllegalArgumentException.class,
+                () -> inn.purchase(campaign, Collections.singletonList(new Purchase(Item.BREAD, stranger))));
+    }
+
+    // =========================================================================
+    // 2. Concurrent sessions never overspend
+    // =========================================================================
+
+    @Test
+    public void testConcurrentPurchasesNeverOverspend() throws InterruptedException {
+        Hero hero = new Hero("Shared", HeroClass.ORDER);
+        Campaign campaign = campaign(hero);
+        campaign.addGold(150 * 100);
+        AtomicInteger bought = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> sessions = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread session = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 50; i++) {
+                    if (campaign.trySpendGold(Item.WATER.getPrice())) bought.incrementAndGet();
+                }
+            });
+            sessions.add(session);
+            session.start();
+        }
+        start.countDown();
+        for (Thread session : sessions) session.join();
+
+        assertEquals(100, bought.get());
+        assertEquals(0, campaign.getGold());
+    }
+
+    // =========================================================================
+    // 3. Recruits only in the first rooms, priced by level
+    // =========================================================================
+
+    @Test
+    public void testRecruitment() {
+        Campaign campaign = campaign(new Hero("Leader", HeroClass.WARRIOR));
+        inn.visitInn(campaign);
+        List<Hero> offered = campaign.getRecruits();
+        assertFalse(offered.isEmpty());
+        for (Hero recruit : offered) assertTrue(recruit.getLevel() >= 1 && recruit.getLevel() <= 4);
+
+        Hero recruit = offered.get(0);
+        int price = InnService.recruitPrice(recruit.getLevel());
+        assertEquals(recruit.getLevel() == 1 ? 0 : 200 * recruit.getLevel(), price);
+        campaign.addGold(price);
+        assertTrue(inn.recruit(campaign, recruit));
+        assertEquals(2, campaign.getParty().size());
+        assertEquals(0, campaign.getGold());
+        assertThrows(IllegalStateException.class, () -> inn.recruit(campaign, recruit));
+
+        // Same seed and room: same offer
+        Campaign replay = campaign(new Hero("Leader", HeroClass.WARRIOR));
+        inn.visitInn(replay);
+        assertEquals(recruit.getHeroClass(), replay.getRecruits().get(0).getHeroClass());
+        assertEquals(recruit.getLevel(), replay.getRecruits().get(0).getLevel());
+
+        // No recruits after the first rooms
+        while (campaign.getNextRoom() < InnService.RECRUIT_ROOMS) campaign.completeRoom(RoomType.INN, 1);
+        inn.visitInn(campaign);
+        assertTrue(campaign.getRecruits().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentRecruitOfSameHeroChargesOnce() throws InterruptedException {
+        Campaign campaign = campaign(new Hero("Leader", HeroClass.WARRIOR));
+        Hero recruit = new Hero("Contested", HeroClass.MAGE);
+        recruit.levelUp(HeroClass.MAGE, 2);
+        campaign.setRecruits(Collections.singletonList(recruit));
+        int price = InnService.recruitPrice(recruit.getLevel());
+        campaign.addGold(10L * price);
+        AtomicInteger hired = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> sessions = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread session = new Thread(() -> {
+                try {
+                    start.await();
+                    if (inn.recruit(campaign, recruit)) hired.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    refused.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            sessions.add(session);
+            session.start();
+        }
+        start.countDown();
+        for (Thread session : sessions) session.join();
+
+        assertEquals(1, hired.get());
+        assertEquals(7, refused.get());
+        assertEquals(9L * price, campaign.getGold());
+        assertEquals(2, campaign.getParty().size());
+        assertTrue(campaign.getRecruits().isEmpty());
+    }
+
+    @Test
+    public void testRecruitWithoutGoldStaysOnOffer() {
+        Campaign campaign = campaign(new Hero("Leader", HeroClass.WARRIOR));
+        Hero recruit = new Hero("Pricey", HeroClass.ORDER);
+        recruit.levelUp(HeroClass.ORDER);
+        campaign.setRecruits(Collections.singletonList(recruit));
+
+        assertFalse(inn.recruit(campaign, recruit));
+        assertEquals(1, campaign.getParty().size());
+        assertSame(recruit, campaign.getRecruits().get(0));
+    }
+
+    // =========================================================================
+    // 4. Recruits are independent copies of their class and level template
+    // =========================================================================
+
+    @Test
+    public void testRecruitsMatchHeroesLevelledOnTheSpot() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Campaign campaign = campaign(seed, new Hero("Leader", HeroClass.WARRIOR));
+            inn.visitInn(campaign);
+            for (Hero recruit : campaign.getRecruits()) {
+                Hero expected = new Hero(recruit.getName(), recruit.getHeroClass());
+                expected.levelUp(recruit.getHeroClass(), recruit.getLevel() - 1);
+                assertEquals(expected.getCurrentAttack(), recruit.getCurrentAttack());
+                assertEquals(expected.getCurrentDefense(), recruit.getCurrentDefense());
+                assertEquals(expected.getCurrentMaxHealth(), recruit.getCurrentMaxHealth());
+                assertEquals(expected.getCurrentMaxMana(), recruit.getCurrentMaxMana());
+                assertEquals(expected.getCurrentHealth(), recruit.getCurrentHealth());
+            }
+        }
+
+        // Two offers of the same template share no state
+        Campaign first = campaign(3, new Hero("Leader", HeroClass.WARRIOR));
+        Campaign second = campaign(3, new Hero("Leader", HeroClass.WARRIOR));
+        inn.visitInn(first);
+        inn.visitInn(second);
+        Hero wounded = first.getRecruits().get(0);
+        Hero untouched = second.getRecruits().get(0);
+        assertNotSame(wounded, untouched);
+        int health = untouched.getCurrentHealth();
+        wounded.takeDamage(10);
+        assertEquals(health - 10, wounded.getCurrentHealth());
+        assertEquals(health, untouched.getCurrentHealth());
+    }
+}
@@ -0,0 +1,120 @@
+package service;
+
+import model.LeagueRecord;
+import org.junit.jupiter.api.Test;
+import service.impl.LeagueServiceImpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeagueServiceTest {
+
+    // =========================================================================
+    // 1. Records, ranking and ties
+    // =========================================================================
+
+    @Test
+    public void testRankingOrderAndTies() {
+        LeagueServiceImpl league = new LeagueServiceImpl();
+        league.recordResult("ann", "bob");
+        league.recordResult("ann", "cid");
+        league.recordResult("bob", "cid");
+        league.recordResult("dee", "cid");
+
+        assertEquals(2, league.getRecord("ann").getWins());
+        assertEquals(3, league.getRecord("cid").getLosses());
+        assertEquals(0, league.getRecord("nobody").getGamesPlayed());
+
+        List<LeagueRecord> top = league.top(3);
+        assertEquals("ann", top.get(0).getPlayer());
+        assertEquals("dee", top.get(1).getPlayer()); // 1-0 beats bob's 1-1
+        assertEquals("bob", top.get(2).getPlayer());
+        assertEquals(1, league.rank("ann"));
+        assertEquals(2, league.rank("dee"));
+        assertEquals(3, league.rank("bob"));
+        assertEquals(4, league.rank("cid"));
+        assertEquals(0, league.rank("nobody"));
+
+        league.recordResult("bob", "ann"); // bob 2-1 and ann 2-1 now share first place
+        assertEquals(1, league.rank("ann"));
+        assertEquals(1, league.rank("bob"));
+        assertEquals(3, league.rank("dee"));
+        assertEquals(4, league.playerCount());
+        assertThrows(IllegalArgumentException.class, () -> league.recordResult("ann", "ann"));
+    }
+
+    // =========================================================================
+    // 2. Concurrent results add up and keep the ranking consistent
+    // =========================================================================
+
+    @Test
+    public void testConcurrentResults() throws InterruptedException {
+        LeagueServiceImpl league = new LeagueServiceImpl();
+        int players = 50;
+        int perThread = 2000;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            long seed = t;
+            pool.submit(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < perThread; i++) {
+                    int a = random.nextInt(players);
+                    int b = (a + 1 + random.nextInt(players - 1)) % players;
+                    league.recordResult("p" + a, "p" + b);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(8L * perThread, league.getBattlesRecorded());
+        List<LeagueRecord> table = league.top(Integer.MAX_VALUE);
+        assertEquals(players, table.size());
+        long wins = 0;
+        long losses = 0;
+        for (LeagueRecord record : table) {
+            wins += record.getWins();
+            losses += record.getLosses();
+        }
+        assertEquals(8L * perThread, wins);
+        assertEquals(8L * perThread, losses);
+
+        List<LeagueRecord> sorted = new ArrayList<>(table);
+        sorted.sort(Comparator.comparingInt(LeagueRecord::getWins).reversed()
+                .thenComparingInt(LeagueRecord::getLosses).thenComparing(LeagueRecord::getPlayer));
+        for (int i = 0; i < players; i++) {
+            assertEquals(sorted.get(i).getPlayer(), table.get(i).getPlayer());
+        }
+        assertEquals(1, league.rank(table.get(0).getPlayer()));
+    }
+
+    // =========================================================================
+    // 3. Records nobody holds any more are forgotten
+    // =========================================================================
+
+    @Test
+    public void testRankIndexOnlyKeepsLiveRecords() {
+        LeagueServiceImpl league = new LeagueServiceImpl();
+        for (int i = 0; i < 500; i++) {
+            if (i % 2 == 0) league.recordResult("Ann", "Bob");
+            else league.recordResult("Bob", "Ann");
+        }
+        // Both players end on 250-250: one live record, not 500 historical ones
+        assertEquals(1, league.distinctRecords());
+        assertEquals(1, league.rank("Ann"));
+        assertEquals(1, league.rank("Bob"));
+
+        league.recordResult("Ann", "Cid");
+        assertEquals(3, league.distinctRecords());
+        assertEquals(1, league.rank("Ann"));
+        assertEquals(2, league.rank("Bob"));
+        assertEquals(3, league.rank("Cid"));
+    }
+}
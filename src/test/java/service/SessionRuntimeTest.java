@@ -0,0 +1,119 @@
+package service;
+
+import model.BattleResult;
+import model.Campaign;
+import model.Hero;
+import model.HeroClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import persistence.impl.MappedPartyRepository;
+import service.impl.BattleServiceImpl;
+import service.impl.CampaignControllerImpl;
+import service.impl.LeagueServiceImpl;
+import service.impl.SessionRuntime;
+import service.impl.TemplateEnemyGenerator;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class SessionRuntimeTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<Hero> party(int i) {
+        List<Hero> party = new ArrayList<>();
+        party.add(new Hero("Lead" + i, HeroClass.values()[i % 4]));
+        party.add(new Hero("Wing" + i, HeroClass.values()[(i + 1) % 4]));
+        return party;
+    }
+
+    // =========================================================================
+    // 1. Concurrent campaigns are isolated, saved and reproducible
+    // =========================================================================
+
+    @Test
+    public void testConcurrentCampaigns() {
+        CampaignControllerImpl controller = new CampaignControllerImpl(new BattleServiceImpl(), new TemplateEnemyGenerator());
+        int sessions = 200;
+        try (MappedPartyRepository parties = new MappedPartyRepository(dir.resolve("parties.dat"), false);
+             SessionRuntime runtime = new SessionRuntime(controller, new BattleServiceImpl(), new LeagueServiceImpl(), parties)) {
+            List<Hero> shared = party(0);
+            List<CompletableFuture<Campaign>> futures = new ArrayList<>();
+            for (int i = 0; i < sessions; i++) {
+                // Every session starts from the same heroes: each must get its own copies
+                futures.add(runtime.startCampaign("player" + i, 0, i % 2 == 0 ? shared : party(i), i));
+            }
+            for (CompletableFuture<Campaign> future : futures) assertTrue(future.join().isFinished());
+            assertEquals(1, shared.get(0).getLevel());
+            assertEquals(0, runtime.activeSessions());
+            assertEquals(sessions, runtime.completedSessions());
+
+            // The saved party is the final one, and a replay gives the same score
+            Campaign fourth = futures.get(4).join();
+            List<Hero> saved = parties.load("player4", 0).orElseThrow();
+            assertEquals(fourth.getParty().get(0).getLevel(), saved.get(0).getLevel());
+            Campaign replay = controller.startCampaign(party(0), 4);
+            while (!replay.isFinished()) controller.enterNextRoom(replay);
+            assertEquals(replay.getScore(), fourth.getScore());
+        }
+    }
+
+    // =========================================================================
+    // 2. PvP sessions record the league and leave the parties untouched
+    // =========================================================================
+
+    @Test
+    public void testPvPSessions() {
+        LeagueServiceImpl league = new LeagueServiceImpl();
+        try (SessionRuntime runtime = new SessionRuntime(CampaignControllerImpl.getInstance(),
+                new BattleServiceImpl(), league, null)) {
+            Hero strong = new Hero("Strong", HeroClass.CHAOS);
+            strong.levelUp(HeroClass.CHAOS, 9);
+            int health = strong.getCurrentHealth();
+            List<Hero> strongParty = List.of(strong);
+            List<Hero> weakParty = List.of(new Hero("Weak", HeroClass.ORDER));
+            List<CompletableFuture<BattleResult>> matches = new ArrayList<>();
+            for (int i = 0; i < 50; i++) matches.add(runtime.startPvP("ann", strongParty, "bob", weakParty, i));
+            for (CompletableFuture<BattleResult> match : matches) assertFalse(match.join().isDraw());
+
+            assertEquals(50, league.getRecord("ann").getWins());
+            assertEquals(50, league.getRecord("bob").getLosses());
+            assertEquals(health, strong.getCurrentHealth());
+        }
+    }
+
+    // =========================================================================
+    // 3. Virtual threads: blocking sessions scale far past the core count
+    // =========================================================================
+
+    @Test
+    public void testManyBlockingSessionsOnVirtualThreads() {
+        // Only meaningful where sessions get virtual threads (Java 21+)
+        assumeTrue(SessionRuntime.virtualThreadsAvailable());
+        int sessions = 20_000;
+        try (SessionRuntime runtime = new SessionRuntime(CampaignControllerImpl.getInstance(),
+                new BattleServiceImpl(), new LeagueServiceImpl(), null)) {
+            long start = System.nanoTime();
+            List<CompletableFuture<Integer>> running = new ArrayList<>(sessions);
+            for (int i = 0; i < sessions; i++) {
+                int id = i;
+                running.add(runtime.submit(() -> {
+                    Thread.sleep(200); // Stands in for a blocking save or network wait
+                    return id;
+                }));
+            }
+            for (CompletableFuture<Integer> session : running) session.join();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(sessions, runtime.completedSessions());
+            // A platform-thread pool of 4 per core would need sessions / (4 * cores) * 200 ms
+            assertTrue(millis < 10_000, "20,000 blocking sessions took " + millis + " ms");
+        }
+    }
+}
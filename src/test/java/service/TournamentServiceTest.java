@@ -0,0 +1,143 @@
+package service;
+
+import model.Hero;
+import model.HeroClass;
+import model.IsolatedBattle;
+import model.LeagueRecord;
+import model.MatchResult;
+import model.TournamentEntry;
+import org.junit.jupiter.api.Test;
+import service.impl.BattleServiceImpl;
+import service.impl.LeagueServiceImpl;
+import service.impl.TournamentServiceImpl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentServiceTest {
+
+    private static final HeroClass[] CLASSES = {HeroClass.ORDER, HeroClass.CHAOS, HeroClass.WARRIOR, HeroClass.MAGE};
+
+    private static List<TournamentEntry> entries(int players, int slots) {
+        List<TournamentEntry> entries = new ArrayList<>();
+        for (int p = 0; p < players; p++) {
+            for (int s = 0; s < slots; s++) {
+                List<Hero> party = new ArrayList<>();
+                for (int h = 0; h <= (p + s) % 3; h++) {
+                    HeroClass heroClass = CLASSES[(p + s + h) % CLASSES.length];
+                    Hero hero = new Hero("H" + p + s + h, heroClass);
+                    hero.levelUp(heroClass, (p * 3 + s) % 5);
+                    party.add(hero);
+                }
+                entries.add(new TournamentEntry("player" + p, s, party));
+            }
+        }
+        return entries;
+    }
+
+    // =========================================================================
+    // 1. Round robin: every pair once, parallel and deterministic
+    // =========================================================================
+
+    @Test
+    public void testRoundRobin() {
+        List<TournamentEntry> entries = entries(3, 2);
+        int healthBefore = entries.get(0).getParty().get(0).getCurrentHealth();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            LeagueServiceImpl league = new LeagueServiceImpl();
+            List<MatchResult> results = new TournamentServiceImpl(new BattleServiceImpl(), league, executor, 4)
+                    .roundRobin(entries, 99L);
+
+            // 6 entries = 15 pairs, minus the 3 pairs of the same player
+            assertEquals(12, results.size());
+            Set<String> pairs = new HashSet<>();
+            Set<String> perRound = new HashSet<>();
+            long decided = 0;
+            for (MatchResult result : results) {
+                assertNotEquals(result.getFirst().getPlayer(), result.getSecond().getPlayer());
+                assertTrue(pairs.add(key(result.getFirst(), result.getSecond())));
+                assertTrue(perRound.add(result.getRound() + "/" + result.getFirst()));
+                assertTrue(perRound.add(result.getRound() + "/" + result.getSecond()));
+                if (!result.isDraw()) decided++;
+            }
+            long games = 0;
+            for (LeagueRecord record : league.top(10)) games += record.getWins();
+            assertEquals(decided, games);
+            assertEquals(healthBefore, entries.get(0).getParty().get(0).getCurrentHealth());
+
+            // Same seed with one worker: same results
+            List<MatchResult> sequential = new TournamentServiceImpl(new BattleServiceImpl(), new LeagueServiceImpl(), executor, 1)
+                    .roundRobin(entries, 99L);
+            for (int i = 0; i < results.size(); i++) {
+                assertSame(results.get(i).getWinner(), sequential.get(i).getWinner());
+                assertEquals(results.get(i).getBattleRounds(), sequential.get(i).getBattleRounds());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // =========================================================================
+    // 2. Swiss: no rematches while avoidable, one bye per round
+    // =========================================================================
+
+    @Test
+    public void testSwiss() {
+        List<TournamentEntry> entries = entries(5, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<MatchResult> results = new TournamentServiceImpl(new BattleServiceImpl(), new LeagueServiceImpl(), executor, 2)
+                    .swiss(entries, 3, 7L);
+            assertEquals(3 * 2, results.size());
+            Set<String> pairs = new HashSet<>();
+            for (MatchResult result : results) {
+                assertTrue(pairs.add(key(result.getFirst(), result.getSecond())));
+            }
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TournamentServiceImpl(new BattleServiceImpl(), new LeagueServiceImpl(), executor, 2).swiss(entries, 0, 7L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static String key(TournamentEntry a, TournamentEntry b) {
+        String x = a.toString();
+        String y = b.toString();
+        return x.compareTo(y) < 0 ? x + "-" + y : y + "-" + x;
+    }
+
+    // =========================================================================
+    // 3. A failing match stops the rest of the schedule
+    // =========================================================================
+
+    @Test
+    public void testFailedMatchStopsRemainingMatches() {
+        AtomicInteger started = new AtomicInteger();
+        BattleService failing = new BattleServiceImpl() {
+            @Override
+            public IsolatedBattle startIsolatedBattle(List<Hero> teamA, List<Hero> teamB, long seed) {
+                if (started.incrementAndGet() == 5) throw new IllegalStateException("engine failure");
+                return super.startIsolatedBattle(teamA, teamB, seed);
+            }
+        };
+        LeagueServiceImpl league = new LeagueServiceImpl();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            TournamentService tournament = new TournamentServiceImpl(failing, league, executor, 1);
+            List<TournamentEntry> entries = entries(6, 2); // 66 matches in 4 chunks
+            assertThrows(IllegalStateException.class, () -> tournament.roundRobin(entries, 1L));
+            assertEquals(5, started.get());
+            assertTrue(league.getBattlesRecorded() <= 4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}